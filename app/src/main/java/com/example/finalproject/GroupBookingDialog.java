@@ -0,0 +1,208 @@
+package com.example.finalproject;
+
+import com.example.finalproject.engine.BookingEngine;
+import com.example.finalproject.engine.BookingService;
+import com.example.finalproject.engine.Constants;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomRegistry;
+import javafx.event.ActionEvent;
+import javafx.geometry.Insets;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+
+// Dialog for booking or cancelling the same dates in many rooms at once (groups and events).
+// Rooms are entered as numbers and ranges, e.g. "101-110, 115", or picked by "Find Rooms", which
+// asks the engine for the best-fitting free rooms of a type; the result is one batch request.
+
+public class GroupBookingDialog {
+    private final Dialog<List<BookingService.Request>> dialog = new Dialog<>();
+    private final BookingEngine engine;
+    private final RoomRegistry rooms;
+
+    private final ComboBox<String> findType = new ComboBox<>();
+    private static final int MAX_FIND_COUNT = 999;
+
+    private final Spinner<Integer> findCount = new Spinner<>(1, MAX_FIND_COUNT, 1);
+    private final TextField roomList = new TextField();
+    private final ComboBox<String> action = new ComboBox<>();
+    private final DatePicker start = new DatePicker();
+    private final DatePicker end = new DatePicker();
+    private final Label errorLabel = new Label();
+
+    public GroupBookingDialog(BookingEngine engine, LocalDate from, LocalDate to) {
+        this.engine = engine;
+        this.rooms = engine.getRooms();
+        start.setValue(from);
+        end.setValue(to);
+        buildDialog();
+    }
+
+    // opens modal; returns the requests if the user confirmed valid input
+    public Optional<List<BookingService.Request>> showAndWait() {
+        return dialog.showAndWait();
+    }
+
+    private void buildDialog() {
+        dialog.setTitle("Group Booking");
+        dialog.getDialogPane().setPrefWidth(500);
+        dialog.getDialogPane().getStylesheets().add(HelloApplication.class.getResource("style.css").toExternalForm());
+        dialog.getDialogPane().getStyleClass().add("modal");
+
+        Label header = new Label("Book or cancel the same dates for several rooms:");
+        header.getStyleClass().add("section-header");
+
+        findType.getItems().addAll(rooms.getAttributes().getTypeNames());
+        findType.getItems().add(Constants.ACTION_ANY);
+        findType.setValue(Constants.ACTION_ANY);
+        findCount.setEditable(true);
+        findCount.setPrefWidth(80);
+        Button find = new Button("Find Rooms");
+        find.getStyleClass().add("add-reservation-button");
+        find.setOnAction(e -> findRooms());
+
+        roomList.setPromptText("101-110, 115");
+        action.getItems().addAll(Constants.ACTION_BOOK, Constants.ACTION_CANCEL);
+        action.setValue(Constants.ACTION_BOOK);
+        errorLabel.setTextFill(Color.RED);
+
+        GridPane grid = new GridPane();
+        grid.setHgap(10);
+        grid.setVgap(10);
+        grid.setPadding(new Insets(5));
+        grid.addRow(0, new Label("Action:"), action);
+        grid.addRow(1, new Label("Start Date:"), start);
+        grid.addRow(2, new Label("End Date:"), end);
+        grid.addRow(3, new Label("Find:"), new HBox(10, findCount, findType, find));
+        grid.addRow(4, new Label("Rooms:"), roomList);
+
+        VBox box = new VBox(10, header, grid, errorLabel);
+        box.setPadding(new Insets(10));
+        box.getStyleClass().add("section-box");
+        dialog.getDialogPane().setContent(box);
+        dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
+
+        // keeps the dialog open until the input is valid
+        Button ok = (Button) dialog.getDialogPane().lookupButton(ButtonType.OK);
+        ok.addEventFilter(ActionEvent.ACTION, e -> {
+            if (validate() == null) e.consume();
+        });
+
+        dialog.setResultConverter(btn -> btn == ButtonType.OK ? validate() : null);
+    }
+
+    // fills the room list with the best-fitting free rooms for the dates (tightest gap first)
+    private void findRooms() {
+        LocalDate s = start.getValue();
+        LocalDate e = end.getValue();
+        if (s == null || e == null) {
+            errorLabel.setText(Constants.ERROR_DATE_BOTH_REQUIRED);
+            return;
+        }
+        if (e.isBefore(s)) {
+            errorLabel.setText(Constants.ERROR_START_AFTER_END);
+            return;
+        }
+        Integer count = readFindCount();
+        if (count == null) {
+            errorLabel.setText(Constants.ERROR_ROOM_COUNT);
+            return;
+        }
+        action.setValue(Constants.ACTION_BOOK);
+        List<Room> found = engine.allocate(findType.getValue(), count, s, e);
+        List<Integer> numbers = new ArrayList<>(found.size());
+        for (Room room : found) numbers.add(room.getRoomNumber());
+        numbers.sort(null);
+        roomList.setText(formatRooms(numbers));
+        errorLabel.setText(found.size() < count ? Constants.ERROR_NOT_ENOUGH_ROOMS + " " + found.size() : "");
+    }
+
+    // the room count typed into the spinner, committed to it; null if it isn't a number from 1 to 999.
+    // the spinner only takes typed text on enter or focus loss, and would throw or clamp on its own
+    private Integer readFindCount() {
+        int count;
+        try {
+            count = Integer.parseInt(findCount.getEditor().getText().trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+        if (count < 1 || count > MAX_FIND_COUNT) return null;
+        try {
+            findCount.commitValue();
+        } catch (RuntimeException ex) {
+            return null;
+        }
+        return count;
+    }
+
+    // writes sorted room numbers back as numbers and ranges, e.g. "101-110, 115"
+    private static String formatRooms(List<Integer> numbers) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < numbers.size(); ) {
+            int j = i;
+            while (j + 1 < numbers.size() && numbers.get(j + 1) == numbers.get(j) + 1) j++;
+            if (text.length() > 0) text.append(", ");
+            text.append(numbers.get(i));
+            if (j > i) text.append('-').append(numbers.get(j));
+            i = j + 1;
+        }
+        return text.toString();
+    }
+
+    // builds one request per room, or shows an error and returns null if the input is invalid
+    private List<BookingService.Request> validate() {
+        LocalDate s = start.getValue();
+        LocalDate e = end.getValue();
+        if (s == null || e == null) {
+            errorLabel.setText(Constants.ERROR_DATE_BOTH_REQUIRED);
+            return null;
+        }
+        if (e.isBefore(s)) {
+            errorLabel.setText(Constants.ERROR_START_AFTER_END);
+            return null;
+        }
+        Set<Integer> numbers = parseRooms(roomList.getText());
+        if (numbers == null || numbers.isEmpty()) {
+            errorLabel.setText(Constants.ERROR_ROOM_LIST);
+            return null;
+        }
+
+        boolean cancel = Constants.ACTION_CANCEL.equals(action.getValue());
+        List<BookingService.Request> requests = new ArrayList<>(numbers.size());
+        for (int number : numbers) {
+            requests.add(new BookingService.Request(number, s, e, cancel));
+        }
+        errorLabel.setText(""); // no errors
+        return requests;
+    }
+
+    // parses "101-110, 115" into room numbers; null if a part isn't a number, a range or a registered room
+    private Set<Integer> parseRooms(String text) {
+        Set<Integer> numbers = new LinkedHashSet<>();
+        for (String part : text.split(",")) {
+            part = part.trim();
+            if (part.isEmpty()) continue;
+            try {
+                int dash = part.indexOf('-');
+                int first = Integer.parseInt((dash < 0 ? part : part.substring(0, dash)).trim());
+                int last = dash < 0 ? first : Integer.parseInt(part.substring(dash + 1).trim());
+                if (last < first) return null;
+                for (int number = first; number <= last; number++) {
+                    if (!rooms.contains(number)) return null;
+                    numbers.add(number);
+                }
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+        }
+        return numbers;
+    }
+}
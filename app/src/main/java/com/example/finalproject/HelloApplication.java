@@ -8,11 +8,14 @@ import javafx.stage.Stage;
 import java.io.IOException;
 
 public class HelloApplication extends Application {
+    private HelloController controller;
+
     @Override
     public void start(Stage stage) throws IOException {
         // loads the FXML layout for the main UI
         FXMLLoader fxmlLoader = new FXMLLoader(HelloApplication.class.getResource("hello-view.fxml")); // loads the main fxml file
         Scene scene = new Scene(fxmlLoader.load());
+        controller = fxmlLoader.getController();
         // applies CSS styling
         scene.getStylesheets().add(HelloApplication.class.getResource("style.css").toExternalForm());
 
@@ -27,6 +30,12 @@ public class HelloApplication extends Application {
         stage.show();
     }
 
+    // flushes pending booking writes before the JVM exits
+    @Override
+    public void stop() {
+        if (controller != null) controller.shutdown();
+    }
+
     public static void main(String[] args) {
         launch(); // entry point for JavaFX application
     }
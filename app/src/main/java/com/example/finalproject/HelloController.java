@@ -0,0 +1,242 @@
+package com.example.finalproject;
+
+import com.example.finalproject.engine.BookingEngine;
+import com.example.finalproject.engine.BookingIndex;
+import com.example.finalproject.engine.BookingService;
+import com.example.finalproject.engine.Constants;
+import com.example.finalproject.engine.Metrics;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomFilterCriteria;
+import com.example.finalproject.engine.RoomQueryResult;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.scene.Node;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.*;
+
+// controller for the main room filtering UI.
+// handles filter logic, form validation, and dynamic UI updates.
+public class HelloController implements Initializable {
+    // these values are automatically bound by JavaFX from the FXML file
+    @FXML private ComboBox<String> roomType;
+    @FXML private ComboBox<String> action;
+    @FXML private TextField roomNumber;
+    @FXML private RoomGridView roomsContainer;
+    @FXML private Label availableOrCancelTitle;
+    @FXML private HBox numberInputContainer;
+    @FXML private HBox cardsSizeTitle;
+    @FXML private Label cardSize;
+    @FXML private DatePicker datePickerTo;
+    @FXML private DatePicker datePickerFrom;
+    @FXML private Label filterDatePickerError;
+
+    private BookingEngine engine; // rooms, searches, bookings and persistence
+    private final SearchScheduler searchScheduler = new SearchScheduler();
+
+    // when the latest result was handed to the grid; 0 once its render time has been recorded
+    private long pendingRenderStart;
+    // records the render phase after the layout pass that builds the new cards
+    private final Runnable renderRecorder = () -> {
+        if (pendingRenderStart == 0) return;
+        Metrics.SEARCH_RENDER.recordSince(pendingRenderStart);
+        pendingRenderStart = 0;
+    };
+
+    @Override
+    public void initialize(URL url, ResourceBundle resourceBundle) {
+        initializeComboBoxes();
+        setupListeners();
+        roomsContainer.setOnManage(this::openSelectDateDialog);
+        // the grid usually joins its scene after initialize, so the recorder follows the scene it is in
+        if (roomsContainer.getScene() != null) roomsContainer.getScene().addPostLayoutPulseListener(renderRecorder);
+        roomsContainer.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) oldScene.removePostLayoutPulseListener(renderRecorder);
+            if (newScene != null) newScene.addPostLayoutPulseListener(renderRecorder);
+        });
+
+        datePickerFrom.setEditable(false);
+        datePickerTo.setEditable(false);
+
+        // sets default date range
+        datePickerFrom.setValue(LocalDate.now());
+        datePickerTo.setValue(LocalDate.now().plusDays(30));
+
+        // loads room data
+        engine = BookingEngine.open(); // replays bookings saved since the last snapshot
+        Metrics.registerGauge("images.hits", ImageCache::getHits);
+        Metrics.registerGauge("images.misses", ImageCache::getMisses);
+        engine.onSaveFailure(error -> javafx.application.Platform.runLater(() ->
+                new Alert(Alert.AlertType.ERROR, Constants.ERROR_SAVE_FAILED + " " + error.getMessage()).show()));
+        triggerSearch();
+    }
+
+    // populates dropdowns with options
+    private void initializeComboBoxes() {
+        roomType.getItems().addAll("Standard Single", "Standard Family", "Romantic Getaway",
+                "Junior Suite", "Platinum Suite", "Penthouse Suite", Constants.ACTION_ANY);
+        action.getItems().addAll(Constants.ACTION_BOOK, Constants.ACTION_CANCEL, Constants.ACTION_ANY);
+
+        roomType.setValue(Constants.ACTION_ANY);
+        action.setValue(Constants.ACTION_ANY);
+    }
+
+    // sets up event listeners for all filter inputs.
+    // typing is debounced so a search starts only once the user pauses.
+    private void setupListeners() {
+        roomType.setOnAction(e -> triggerSearch());
+        action.setOnAction(e -> triggerSearch());
+        roomNumber.setOnKeyReleased(e -> searchScheduler.debounce(this::triggerSearch));
+        datePickerFrom.setOnAction(e -> triggerSearch());
+        datePickerTo.setOnAction(e -> triggerSearch());
+        datePickerFrom.setOnKeyReleased(e -> searchScheduler.debounce(this::triggerSearch));
+        datePickerTo.setOnKeyReleased(e -> searchScheduler.debounce(this::triggerSearch));
+    }
+
+    // applies filters on a background thread and updates room display with the result
+    public void triggerSearch() {
+        searchScheduler.cancel(); // a newer search supersedes pending and running ones
+        clearRoomNumberError();
+        filterDatePickerError.setText("");
+
+        RoomFilterCriteria criteria = new RoomFilterCriteria();
+        criteria.roomType = roomType.getValue();
+        criteria.action = action.getValue();
+        criteria.numberText = roomNumber.getText().trim();
+        criteria.from = datePickerFrom.getValue();
+        criteria.to = datePickerTo.getValue();
+
+        if (!areValidDateFilters(criteria.from, criteria.to)) return;
+
+        searchScheduler.submit(() -> engine.search(criteria), filtered -> {
+            if (filtered == null) {
+                displayRoomError(Constants.ERROR_INVALID_ROOM + " " + Constants.ERROR_FILTERING_DISABLED);
+                return;
+            }
+
+            updateTitle(criteria.action);
+            showRooms(filtered);
+            updateRoomCount(filtered.size());
+        });
+    }
+
+    // validates date filters before applying them
+    private boolean areValidDateFilters(LocalDate from, LocalDate to) {
+        if ((from == null && to != null) || (from != null && to == null)) {
+            setDateError(Constants.ERROR_DATE_BOTH_REQUIRED + " " + Constants.ERROR_FILTERING_DISABLED);
+            return false;
+        }
+
+        if (from != null && to != null && from.isAfter(to)) {
+            setDateError(Constants.ERROR_START_AFTER_END + " " + Constants.ERROR_FILTERING_DISABLED);
+            return false;
+        }
+
+        return true;
+    }
+
+    // sets the error message for date filters
+    private void setDateError(String message) {
+        filterDatePickerError.setText(message);
+    }
+
+    // updates room card container title with the size of filtered rooms
+    private void updateRoomCount(int count) {
+        cardSize.setText(" (" + count + ")");
+        cardSize.getStyleClass().add("titleLabel");
+    }
+
+    // displays a validation error over the room number input
+    private void displayRoomError(String error) {
+        clearRoomNumberError();
+        Label label = new Label(error);
+        label.getStyleClass().add("error-label");
+        label.setId("roomNumberError");
+        numberInputContainer.getChildren().add(label);
+    }
+
+    // clears error
+    private void clearRoomNumberError() {
+        Node err = numberInputContainer.lookup("#roomNumberError");
+        if (err != null) numberInputContainer.getChildren().remove(err);
+    }
+
+    // updates the section title based on selected action
+    private void updateTitle(String action) {
+        switch (action) {
+            case Constants.ACTION_BOOK -> availableOrCancelTitle.setText("Available rooms");
+            case Constants.ACTION_CANCEL -> availableOrCancelTitle.setText("Booked rooms");
+            default -> availableOrCancelTitle.setText("All rooms");
+        }
+    }
+
+    // resets all filters to default values and refreshes the room list
+    public void clearFields() {
+        roomType.setValue(Constants.ACTION_ANY);
+        action.setValue(Constants.ACTION_ANY);
+        roomNumber.clear();
+        datePickerFrom.setValue(LocalDate.now());
+        datePickerTo.setValue(LocalDate.now().plusDays(30));
+        triggerSearch();
+    }
+
+    // renders the room cards in the UI; the grid only builds cards for the visible rows.
+    // the time until the next layout pass (when the new cards are built) is recorded as the render phase.
+    public void showRooms(RoomQueryResult list) {
+        long start = System.nanoTime();
+        roomsContainer.setRooms(list);
+        if (roomsContainer.getScene() != null) pendingRenderStart = start;
+    }
+
+    // opens the manage dialog for a specific room (for booking/canceling)
+    // the dialog edits a copy; on save its edits are applied on top of whatever was booked meanwhile
+    private void openSelectDateDialog(Room room) {
+        BookingIndex opened = room.getBookedDates();
+        new RoomManagerDialog(room, bookings -> {
+            // saves the change and invalidates cached searches
+            if (engine.apply(room.getRoomNumber(), opened, bookings) == null) {
+                new Alert(Alert.AlertType.WARNING, Constants.ERROR_BOOKING_CONFLICT).show();
+                return;
+            }
+            javafx.application.Platform.runLater(this::triggerSearch); // ensures UI is updated on the JavaFX Application Thread after booking/canceling
+        }).showAndWait();
+    }
+
+    // opens the group booking dialog for the dates in the filter; the rooms it lists are booked or
+    // cancelled all-or-nothing, saved in one write and shown with a single refresh
+    public void openGroupBookingDialog() {
+        new GroupBookingDialog(engine, datePickerFrom.getValue(), datePickerTo.getValue())
+                .showAndWait()
+                .ifPresent(requests -> {
+                    BookingService.BatchResult result = engine.applyBatch(requests);
+                    if (!result.isApplied()) {
+                        // a room with several conflicting requests is listed once
+                        Set<Integer> numbers = new TreeSet<>();
+                        result.conflicts().forEach(request -> numbers.add(request.roomNumber()));
+                        StringJoiner conflicts = new StringJoiner(", ", Constants.ERROR_GROUP_CONFLICT + " ", "");
+                        numbers.forEach(number -> conflicts.add(String.valueOf(number)));
+                        new Alert(Alert.AlertType.WARNING, conflicts.toString()).show();
+                        return;
+                    }
+                    triggerSearch();
+                });
+    }
+
+    // flushes pending journal writes; called when the application exits
+    public void shutdown() {
+        if (engine == null) return;
+        try {
+            engine.close();
+        } catch (IOException e) {
+            // nothing left to do on exit; the journal keeps whatever was already synced
+        }
+    }
+}
+
+
+
+
@@ -0,0 +1,107 @@
+package com.example.finalproject;
+
+import javafx.scene.image.Image;
+
+import java.io.File;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// process-wide cache of decoded room images, keyed by image name and target size.
+// images are decoded in the background, already scaled to the size they're shown at,
+// so each bundled thumbnail is decoded once per size instead of once per card per search.
+// bundled images (the few jpgs shipped with the app) are kept for the life of the app;
+// custom per-room images (file paths or URLs) go into a bounded LRU cache.
+public final class ImageCache {
+    public static final int MAX_CUSTOM_IMAGES = 64;
+    private static final String RESOURCE_DIR = "/com/example/finalproject/";
+
+    private static final Map<Key, Image> bundled = new ConcurrentHashMap<>();
+    private static final Map<Key, Image> custom = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Image> eldest) {
+            return size() > MAX_CUSTOM_IMAGES;
+        }
+    };
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    private ImageCache() {} // Prevent instantiation
+
+    private record Key(String imageName, double width, double height) {}
+
+    // returns the image decoded at width x height (stretched to fill, like the card's ImageView).
+    // a new image may still be loading when returned; ImageView shows it once it's ready.
+    public static Image get(String imageName, double width, double height) {
+        Key key = new Key(imageName, width, height);
+        URL resource = ImageCache.class.getResource(RESOURCE_DIR + imageName);
+
+        if (resource != null) {
+            Image cached = bundled.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            return bundled.computeIfAbsent(key, k -> load(resource.toExternalForm(), k));
+        }
+
+        synchronized (custom) {
+            Image cached = custom.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+            Image image = load(customUrl(imageName), key);
+            custom.put(key, image);
+            return image;
+        }
+    }
+
+    public static long getHits() {
+        return hits.get();
+    }
+
+    public static long getMisses() {
+        return misses.get();
+    }
+
+    // number of decoded images currently held
+    public static int size() {
+        synchronized (custom) {
+            return bundled.size() + custom.size();
+        }
+    }
+
+    // drops every cached image (e.g. after room images were changed on disk)
+    public static void clear() {
+        bundled.clear();
+        synchronized (custom) {
+            custom.clear();
+        }
+    }
+
+    private static Image load(String url, Key key) {
+        misses.incrementAndGet();
+        Image image = new Image(url, key.width(), key.height(), false, true, true);
+        // don't keep failed loads around, so a fixed file is picked up on the next request
+        image.errorProperty().addListener((obs, wasError, isError) -> {
+            if (isError) evict(key, image);
+        });
+        return image;
+    }
+
+    private static void evict(Key key, Image image) {
+        bundled.remove(key, image);
+        synchronized (custom) {
+            custom.remove(key, image);
+        }
+    }
+
+    // custom images are given either as a URL ("file:/...", "https://...") or a file path
+    private static String customUrl(String imageName) {
+        if (imageName.contains(":/")) return imageName;
+        return new File(imageName).toURI().toString();
+    }
+}
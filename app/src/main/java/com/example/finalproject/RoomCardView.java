@@ -1,10 +1,10 @@
 package com.example.finalproject;
 
+import com.example.finalproject.engine.Room;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Tooltip;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 
@@ -13,11 +13,15 @@ import java.util.function.Consumer;
 // creates a card that displays room information and a "Manage" button
 // for opening the room management dialog.
 public class RoomCardView extends VBox {
+    public static final double IMAGE_WIDTH = 150;
+    public static final double IMAGE_HEIGHT = 220;
+
     private final ImageView img = new ImageView();
     private final Label title = new Label();
     private final Label price = new Label();
     private final Label include = new Label();
     private final Button manageBtn = new Button("Manage");
+    private final Tooltip tip = new Tooltip(); // reused when the card is rebound to another room
 
     // initializes the visual layout and styles
     public RoomCardView() {
@@ -26,8 +30,8 @@ public class RoomCardView extends VBox {
         getStyleClass().add("room-card");
         setSpacing(10);
 
-        img.setFitWidth(150);
-        img.setFitHeight(220);
+        img.setFitWidth(IMAGE_WIDTH);
+        img.setFitHeight(IMAGE_HEIGHT);
 
         title.getStyleClass().add("room-title");
         price.getStyleClass().add("room-price");
@@ -37,6 +41,12 @@ public class RoomCardView extends VBox {
         manageBtn.getStyleClass().add("manage");
 
         getChildren().addAll(img, title, price, include, manageBtn);
+
+        // tooltip shows full room details on hover
+        tip.setWrapText(true);
+        tip.setMaxWidth(300);
+        tip.getStyleClass().add("room-card-tooltip");
+        Tooltip.install(this, tip);
     }
 
     // constructor that also binds a Room and its manage action
@@ -46,8 +56,9 @@ public class RoomCardView extends VBox {
     }
 
     // Binds the given room data to the UI and sets up the manage action.
+    // Can be called again to reuse the card for another room.
     public void setRoom(Room room, Consumer<Room> onManage) {
-        img.setImage(new Image(getClass().getResource("/com/example/finalproject/" + room.getImageName()).toString()));
+        img.setImage(ImageCache.get(room.getImageName(), IMAGE_WIDTH, IMAGE_HEIGHT)); // shared, decoded once at card size
         title.setText(room.getRoomType() + " (" + room.getRoomNumber() + ")");
         price.setText("$" + (int) room.getPriceWithTax() + " / night");
         include.setText((room.getIncludes() != null && room.getIncludes().length > 0) ? room.getIncludes()[0] : "No details");
@@ -55,11 +66,6 @@ public class RoomCardView extends VBox {
         // triggers action when "Manage" is clicked
         manageBtn.setOnAction(e -> onManage.accept(room));
 
-        // tooltip shows full room details on hover
-        Tooltip tip = new Tooltip(room.toString());
-        tip.setWrapText(true);
-        tip.setMaxWidth(300);
-        tip.getStyleClass().add("room-card-tooltip");
-        Tooltip.install(this, tip);
+        tip.setText(room.toString());
     }
 }
\ No newline at end of file
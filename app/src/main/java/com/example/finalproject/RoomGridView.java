@@ -0,0 +1,150 @@
+package com.example.finalproject;
+
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomQueryResult;
+import javafx.collections.ObservableListBase;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// virtualized grid of room cards.
+// a ListView whose items are row numbers: the ListView only creates cells for the rows
+// on screen and recycles them while scrolling, and each row cell keeps a small pool of
+// RoomCardView instances that are rebound with setRoom. the node count stays the same
+// whether a search returns ten rooms or a hundred thousand.
+public class RoomGridView extends ListView<Integer> {
+    private static final double GAP = 10;
+    private static final double CARD_WIDTH = 172; // 150px image + .room-card padding and border
+    private static final double SIDE_INSETS = 30; // list padding plus the vertical scroll bar
+
+    private final RowList rows = new RowList();
+    private RoomQueryResult rooms;
+    private Consumer<Room> onManage = room -> {};
+    private int columns = 1;
+    private int generation; // bumped whenever rows must be rebound (new result or new column count)
+
+    public RoomGridView() {
+        getStyleClass().add("room-grid");
+        setItems(rows);
+        setCellFactory(list -> new RowCell());
+        setFocusTraversable(false);
+        widthProperty().addListener((obs, oldWidth, newWidth) -> updateColumns(newWidth.doubleValue()));
+    }
+
+    // sets the action run when a card's "Manage" button is clicked
+    public void setOnManage(Consumer<Room> onManage) {
+        this.onManage = onManage;
+    }
+
+    // shows the given search result; only the visible rows are bound to cards
+    public void setRooms(RoomQueryResult rooms) {
+        this.rooms = rooms;
+        generation++;
+        rows.reset(rowCount());
+        scrollTo(0);
+    }
+
+    private void updateColumns(double width) {
+        int fit = (int) ((width - SIDE_INSETS + GAP) / (CARD_WIDTH + GAP));
+        int newColumns = Math.max(1, fit);
+        if (newColumns != columns) {
+            columns = newColumns;
+            generation++;
+            rows.reset(rowCount());
+        }
+    }
+
+    private int rowCount() {
+        return rooms == null ? 0 : (rooms.size() + columns - 1) / columns;
+    }
+
+    // one grid row; its cards are created once and rebound as the cell is reused
+    private final class RowCell extends ListCell<Integer> {
+        private final HBox row = new HBox(GAP);
+        private final List<RoomCardView> cards = new ArrayList<>();
+        private int boundRow = -1;
+        private int boundGeneration = -1;
+
+        RowCell() {
+            getStyleClass().add("room-grid-row");
+        }
+
+        // row numbers repeat between searches, so let updateItem decide (via the generation) whether to rebind
+        @Override
+        protected boolean isItemChanged(Integer oldItem, Integer newItem) {
+            return true;
+        }
+
+        @Override
+        protected void updateItem(Integer rowIndex, boolean empty) {
+            super.updateItem(rowIndex, empty);
+            setText(null);
+            if (empty || rowIndex == null || rooms == null) {
+                boundRow = -1;
+                setGraphic(null);
+                return;
+            }
+            if (rowIndex == boundRow && generation == boundGeneration) return; // already showing this row
+            boundRow = rowIndex;
+            boundGeneration = generation;
+
+            while (cards.size() < columns) {
+                RoomCardView card = new RoomCardView();
+                cards.add(card);
+                row.getChildren().add(card);
+            }
+
+            int first = rowIndex * columns;
+            int count = Math.max(0, Math.min(columns, rooms.size() - first));
+            for (int i = 0; i < cards.size(); i++) {
+                RoomCardView card = cards.get(i);
+                boolean used = i < count;
+                if (used) card.setRoom(rooms.get(first + i), onManage);
+                card.setVisible(used);
+                card.setManaged(used);
+            }
+            setGraphic(row);
+        }
+    }
+
+    // the row numbers 0..size-1 without storing them, so the list costs the same for any result size
+    private static final class RowList extends ObservableListBase<Integer> {
+        private int size;
+
+        // replaces the whole content with rows 0..newSize-1 (cells are rebound, not recreated)
+        void reset(int newSize) {
+            int oldSize = size;
+            beginChange();
+            size = newSize;
+            nextRemove(0, new AbstractList<Integer>() {
+                @Override
+                public Integer get(int index) {
+                    return index;
+                }
+
+                @Override
+                public int size() {
+                    return oldSize;
+                }
+            });
+            nextAdd(0, newSize);
+            endChange();
+        }
+
+        @Override
+        public Integer get(int index) {
+            if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index);
+            return index;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.finalproject;
 
+import com.example.finalproject.engine.BookingIndex;
+import com.example.finalproject.engine.Constants;
+import com.example.finalproject.engine.DateRange;
+import com.example.finalproject.engine.DateUtils;
+import com.example.finalproject.engine.Room;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
@@ -7,8 +12,7 @@ import javafx.scene.paint.Color;
 import javafx.util.Callback;
 
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.Date;
+import java.util.function.Consumer;
 
 
 // Dialog for managing bookings and cancellations for a single room.
@@ -17,16 +21,16 @@ import java.util.Date;
 public class RoomManagerDialog {
     private final Dialog<Void> dialog = new Dialog<>();
     private final Room room;
-    private final CustomLinkedList<DateRange> dateRanges; // temporary copy to avoid direct edits
-    private final Runnable onSave; // callback to update main UI and rooms after save
+    private final BookingIndex dateRanges; // temporary copy to avoid direct edits
+    private final Consumer<BookingIndex> onSave; // callback that applies the edited bookings and updates the main UI
 
     private VBox cancelBox;
     private Runnable refreshRunnable;
 
-    public RoomManagerDialog(Room room, Runnable onSave) {
+    public RoomManagerDialog(Room room, Consumer<BookingIndex> onSave) {
         this.room = room;
         this.onSave = onSave;
-        this.dateRanges = new CustomLinkedList<>(room.getBookedDates());
+        this.dateRanges = new BookingIndex(room.getBookedDates());
         buildDialog();
     }
 
@@ -61,8 +65,7 @@ public class RoomManagerDialog {
         // saves changes on OK
         dialog.setResultConverter(btn -> {
             if (btn == ButtonType.OK) {
-                room.setBookedDates(dateRanges);
-                onSave.run();
+                onSave.accept(dateRanges);
             }
             return null;
         });
@@ -81,12 +84,9 @@ public class RoomManagerDialog {
         refreshRunnable = () -> {
             box.getChildren().setAll(header);
             for (DateRange r : dateRanges) {
-                LocalDate from = DateUtils.toLocal(r.getStartDate());
-                LocalDate to = DateUtils.toLocal(r.getEndDate());
                 // calculates total price based on number of booked days (inclusive).
                 // for example, June 10–12 = 3 days. (10, 11, 12)
-                long days = java.time.temporal.ChronoUnit.DAYS.between(from, to) + 1;
-                double total = days * room.getPriceWithTax();
+                double total = r.getDayCount() * room.getPriceWithTax();
 
                 // creates a cancel button for each reservation
                 Button btn = new Button(String.format("%s (Total: $%.2f)", r, total));
@@ -129,10 +129,7 @@ public class RoomManagerDialog {
             LocalDate s = start.getValue();
             LocalDate ed = end.getValue();
 
-            dateRanges.add(new DateRange(
-                    Date.from(s.atStartOfDay(ZoneId.systemDefault()).toInstant()),
-                    Date.from(ed.atStartOfDay(ZoneId.systemDefault()).toInstant())
-            ));
+            dateRanges.add(new DateRange(DateUtils.toDate(s), DateUtils.toDate(ed)));
             start.setValue(null);
             end.setValue(null);
             errorLabel.setText("");
@@ -176,10 +173,7 @@ public class RoomManagerDialog {
 
     // checks if the given date range overlaps with any existing reservation.
     private boolean isRangeBooked(LocalDate from, LocalDate to) {
-        for (DateRange r : dateRanges) {
-            if (r.overlaps(from, to)) return true;
-        }
-        return false;
+        return dateRanges.overlaps(from, to);
     }
 
     // creates a factory for disabling booked and past dates in DatePickers.
@@ -198,10 +192,7 @@ public class RoomManagerDialog {
 
     // returns true if the given single date overlaps an existing reservation.
     private boolean isDateBooked(LocalDate date) {
-        for (DateRange r : dateRanges) {
-            if(r.overlaps(date, date)) return true;
-        }
-        return false;
+        return dateRanges.overlaps(date, date);
     }
 
     // applies the date cell factory to both date pickers.
@@ -0,0 +1,62 @@
+package com.example.finalproject;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.util.Duration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// runs room searches off the JavaFX thread.
+// debounce() waits for a quiet window before starting a search, so typing doesn't start one
+// search per key. searches run on virtual threads; starting a new one cancels the previous,
+// and only the latest search's result is published back with Platform.runLater.
+public class SearchScheduler {
+    public static final Duration QUIET_WINDOW = Duration.millis(120);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong latest = new AtomicLong(); // id of the most recent search
+    private final PauseTransition debounce = new PauseTransition(QUIET_WINDOW);
+    private Future<?> running;
+
+    // runs the action on the FX thread once no new call has arrived for QUIET_WINDOW.
+    // must be called on the JavaFX Application Thread.
+    public void debounce(Runnable action) {
+        debounce.setOnFinished(e -> action.run());
+        debounce.playFromStart();
+    }
+
+    // drops the pending debounced action and any search still running
+    // (e.g. when a search is started directly or the inputs became invalid)
+    public void cancel() {
+        debounce.stop();
+        latest.incrementAndGet();
+    }
+
+    // runs the search on a background thread and hands its result to publish on the FX thread,
+    // unless a newer search has been submitted in the meantime.
+    // must be called on the JavaFX Application Thread.
+    public <T> void submit(Supplier<T> search, Consumer<T> publish) {
+        long id = latest.incrementAndGet();
+        if (running != null) running.cancel(true); // the stale search's result would be dropped anyway
+
+        running = executor.submit(() -> {
+            if (id != latest.get()) return;
+            try {
+                T result = search.get();
+                Platform.runLater(() -> {
+                    if (id == latest.get()) publish.accept(result);
+                });
+            } catch (RuntimeException e) {
+                // report on the FX thread, as the search did when it ran there
+                Platform.runLater(() -> {
+                    throw e;
+                });
+            }
+        });
+    }
+}
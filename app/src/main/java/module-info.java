@@ -0,0 +1,9 @@
+module com.example.finalproject {
+    requires javafx.controls;
+    requires javafx.fxml;
+    requires com.example.finalproject.engine;
+
+    opens com.example.finalproject to javafx.fxml;
+
+    exports com.example.finalproject;
+}
@@ -0,0 +1,63 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.Constants;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomAllocator;
+import com.example.finalproject.engine.RoomFilter;
+import com.example.finalproject.engine.RoomFilterCriteria;
+import com.example.finalproject.engine.RoomQueryResult;
+import com.example.finalproject.engine.RoomRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// "find N free rooms of a type" on a 10k-room hotel: the best-fit allocation (bitmap sweep for the
+// gaps around the stay, then a counting pick) next to the plain "Book" search it replaces at the desk
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocationBenchmark {
+    @Param({"10000"})
+    private int roomCount;
+
+    @Param({"1", "40"})
+    private int count;
+
+    @Param({"Any", "Junior Suite"})
+    private String roomType;
+
+    private RoomRegistry registry;
+    private RoomFilterCriteria criteria;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkData.inventory(roomCount, 20, 42);
+        registry.getAvailability();
+        from = LocalDate.now().plusDays(30);
+        to = from.plusDays(3);
+
+        criteria = new RoomFilterCriteria();
+        criteria.roomType = roomType;
+        criteria.action = Constants.ACTION_BOOK;
+        criteria.numberText = "";
+        criteria.from = from;
+        criteria.to = to;
+    }
+
+    @Benchmark
+    public List<Room> bestFit() {
+        return RoomAllocator.allocate(registry, roomType, count, from, to);
+    }
+
+    @Benchmark
+    public RoomQueryResult bookSearch() {
+        return RoomFilter.applyFilters(registry, criteria);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.AvailabilityIndex;
+import com.example.finalproject.engine.CustomLinkedList;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// compares a "Book" search (rooms free for a two week stay next month) answered by
+// the linear per-room filter against the hotel-wide availability bitmap.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvailabilityBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int rooms;
+
+    @Param({"20"})
+    private int bookingsPerRoom;
+
+    private RoomRegistry registry;
+    private CustomLinkedList<Room> roomList;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkData.inventory(rooms, bookingsPerRoom, 42);
+        roomList = registry.toLinkedList();
+        registry.getAvailability(); // build the bitmap outside the measurement
+        from = LocalDate.now().plusDays(30);
+        to = from.plusDays(14);
+    }
+
+    // baseline: one booking lookup per room, result built as a linked list
+    @Benchmark
+    public CustomLinkedList<Room> linearFilter() {
+        return LinearRoomFilter.filterByDate(roomList, from, to, false);
+    }
+
+    // OR of 15 day bitsets, then complement
+    @Benchmark
+    public long[] bitmapFreeRooms() {
+        return registry.getAvailability().freeRooms(from, to);
+    }
+
+    // the bitmap answer materialized into the same linked list result as the baseline
+    @Benchmark
+    public CustomLinkedList<Room> bitmapFilter() {
+        long[] free = registry.getAvailability().freeRooms(from, to);
+        CustomLinkedList<Room> result = new CustomLinkedList<>();
+        for (int w = 0; w < free.length; w++) {
+            for (long word = free[w]; word != 0; word &= word - 1) {
+                result.add(registry.getAt((w << 6) + Long.numberOfTrailingZeros(word)));
+            }
+        }
+        return result;
+    }
+
+    // building the bitmap from scratch (paid once, on the first date search)
+    @Benchmark
+    @Warmup(iterations = 1, time = 1)
+    @Measurement(iterations = 3, time = 1)
+    public AvailabilityIndex buildIndex() {
+        return new AvailabilityIndex(registry);
+    }
+}
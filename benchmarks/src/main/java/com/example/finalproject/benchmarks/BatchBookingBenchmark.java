@@ -0,0 +1,63 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.BookingService;
+import com.example.finalproject.engine.RoomRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// a group reservation: the same stay booked in (and then cancelled from) a block of rooms, either
+// as one all-or-nothing batch (one lock pass, one registry update) or as one change per room
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchBookingBenchmark {
+    @Param({"40"})
+    private int groupSize;
+
+    private BookingService service;
+    private List<BookingService.Request> bookings;
+    private List<BookingService.Request> cancellations;
+
+    @Setup
+    public void setUp() {
+        RoomRegistry registry = BenchmarkData.inventory(1000, 20, 42);
+        registry.getAvailability();
+        service = new BookingService(registry);
+
+        LocalDate from = LocalDate.now().plusDays(400); // past the generated bookings
+        LocalDate to = from.plusDays(3);
+        bookings = new ArrayList<>();
+        cancellations = new ArrayList<>();
+        for (int number = 1; number <= groupSize; number++) {
+            bookings.add(BookingService.Request.book(number, from, to));
+            cancellations.add(BookingService.Request.cancel(number, from, to));
+        }
+    }
+
+    @Benchmark
+    public BookingService.BatchResult batch() {
+        service.batch(bookings);
+        return service.batch(cancellations);
+    }
+
+    @Benchmark
+    public int oneByOne() {
+        int changed = 0;
+        for (BookingService.Request request : bookings) {
+            if (service.book(request.roomNumber(), request.from(), request.to()) != null) changed++;
+        }
+        for (BookingService.Request request : bookings) {
+            BookingService.Change booked = service.cancel(request.roomNumber(),
+                    BenchmarkData.range(request.from().toEpochDay(), request.to().toEpochDay()));
+            if (booked != null) changed++;
+        }
+        return changed;
+    }
+}
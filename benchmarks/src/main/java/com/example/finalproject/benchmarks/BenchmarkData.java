@@ -0,0 +1,84 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.DateRange;
+import com.example.finalproject.engine.DateUtils;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomRegistry;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// synthetic room inventories shared by the benchmarks.
+// rooms are copies of TEMPLATES, the app's 67 default rooms (see RoomInitializer), repeated
+// up to the requested count, so types, amenities and prices follow the real category mix.
+// uses a fixed seed so every run (and every fork) sees the same data.
+final class BenchmarkData {
+    // share of days booked when no density is given (stays of 4 days on average, gaps of 7)
+    static final double DEFAULT_DENSITY = 4.0 / 11;
+
+    private static final int MIN_STAY = 1;
+    private static final int MAX_STAY = 7;
+
+    // the default rooms in number order, one entry per room
+    private static final List<Room> TEMPLATES = defaultRooms();
+
+    private BenchmarkData() {}
+
+    static RoomRegistry inventory(int roomCount, int bookingsPerRoom, long seed) {
+        return inventory(roomCount, bookingsPerRoom, DEFAULT_DENSITY, seed);
+    }
+
+    // builds roomCount rooms (numbered 1 to roomCount), each with bookingsPerRoom non-overlapping
+    // bookings starting today. stays last 1-7 days; the gaps between them are sized so that about
+    // density (0 < density <= 1) of the days up to the last booking are booked.
+    static RoomRegistry inventory(int roomCount, int bookingsPerRoom, double density, long seed) {
+        if (density <= 0 || density > 1) throw new IllegalArgumentException("Invalid booking density: " + density);
+        double averageStay = (MIN_STAY + MAX_STAY) / 2.0;
+        int maxGap = (int) Math.round(2 * averageStay * (1 - density) / density); // gaps are 0..maxGap days
+
+        Random random = new Random(seed);
+        long today = LocalDate.now().toEpochDay();
+        RoomRegistry rooms = new RoomRegistry();
+        for (int number = 1; number <= roomCount; number++) {
+            Room template = TEMPLATES.get((number - 1) % TEMPLATES.size());
+            Room room = new Room(template.getRoomType(), number, template.getIncludes(),
+                    template.getPrice(), template.getImageName());
+            long day = today + random.nextInt(maxGap + 1);
+            for (int b = 0; b < bookingsPerRoom; b++) {
+                long end = day + random.nextInt(MAX_STAY - MIN_STAY + 1);
+                room.addBookedDate(range(day, end));
+                day = end + 1 + random.nextInt(maxGap + 1);
+            }
+            rooms.add(room);
+        }
+        return rooms;
+    }
+
+    // same categories, number ranges, amenities and prices as the app's defaults
+    private static List<Room> defaultRooms() {
+        List<Room> rooms = new ArrayList<>();
+        addRooms(rooms, 30, "Standard Single", new String[]{"Single Double Bed"}, 79, "standard_single.jpg");
+        addRooms(rooms, 15, "Standard Family", new String[]{"Two Queen Beds"}, 129, "standard_family.jpg");
+        addRooms(rooms, 5, "Romantic Getaway", new String[]{"Single King Bed", "Jacuzzi"}, 159, "romantic_getaway.jpg");
+        addRooms(rooms, 10, "Junior Suite",
+                new String[]{"Single Queen Bed", "Fold-out couch", "Kitchen", "Standard Washroom"}, 199, "junior_suite.jpg");
+        addRooms(rooms, 5, "Platinum Suite",
+                new String[]{"Single King Bed", "Fold-out couch", "Kitchen", "Luxury Washroom", "Jacuzzi"}, 299, "platinum_suite.jpg");
+        addRooms(rooms, 2, "Penthouse Suite",
+                new String[]{"One King Bed", "Two Queen Beds", "Living Room with Entertainment Unit",
+                        "Luxury Kitchen", "Luxury Washroom", "Jacuzzi"}, 599, "penthouse.jpg");
+        return rooms;
+    }
+
+    private static void addRooms(List<Room> rooms, int count, String type, String[] includes, int price, String image) {
+        for (int i = 0; i < count; i++) {
+            rooms.add(new Room(type, rooms.size() + 1, includes, price, image));
+        }
+    }
+
+    static DateRange range(long startDay, long endDay) {
+        return new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)), DateUtils.toDate(LocalDate.ofEpochDay(endDay)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.finalproject.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// entry point of benchmarks.jar: the JMH command line, with allocation profiling and
+// machine-readable results switched on unless the arguments already choose otherwise.
+//     java -jar benchmarks/target/benchmarks.jar [JMH options] [benchmark regexps]
+// adds "-prof gc" (gc.alloc.rate.norm is the bytes allocated per operation) when no profiler is
+// given, and "-rf json -rff jmh-result.json" when no result format is given, so every run leaves a
+// JSON file that can be diffed against a previous run or loaded into a JMH visualizer.
+public final class BenchmarkMain {
+    private BenchmarkMain() {} // Prevent instantiation
+
+    public static void main(String[] args) throws Exception {
+        List<String> options = List.of(args);
+        if (options.contains("-h") || options.contains("-l") || options.contains("-lp") || options.contains("-lprof")) {
+            org.openjdk.jmh.Main.main(args); // help and listings: pass through untouched
+            return;
+        }
+
+        List<String> command = new ArrayList<>();
+        if (!options.contains("-prof")) command.addAll(List.of("-prof", "gc"));
+        if (!options.contains("-rf")) command.addAll(List.of("-rf", "json"));
+        if (!options.contains("-rff")) command.addAll(List.of("-rff", "jmh-result.json"));
+        command.addAll(options);
+        org.openjdk.jmh.Main.main(command.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.BookingIndex;
+import com.example.finalproject.engine.BookingService;
+import com.example.finalproject.engine.DateRange;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// several clerks booking and cancelling at once. each operation books a stay and cancels it again,
+// through BookingService (per-room lock stripes) or under one registry-wide lock, with every thread
+// on its own room ("distinct") or all threads on the same room ("same", each with its own dates).
+// change the thread count with -t.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class BookingContentionBenchmark {
+    @Param({"distinct", "same"})
+    private String rooms;
+
+    private RoomRegistry registry;
+    private BookingService service;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkData.inventory(1000, 20, 42);
+        registry.getAvailability();
+        service = new BookingService(registry);
+    }
+
+    @State(Scope.Thread)
+    public static class Clerk {
+        int roomNumber;
+        LocalDate from;
+        LocalDate to;
+
+        @Setup
+        public void setUp(BookingContentionBenchmark benchmark) {
+            int id = benchmark.threads.getAndIncrement();
+            roomNumber = benchmark.rooms.equals("same") ? 1 : 1 + id;
+            from = LocalDate.now().plusDays(400 + 10L * id); // past the generated bookings
+            to = from.plusDays(3);
+        }
+    }
+
+    @Benchmark
+    public BookingService.Change striped(Clerk clerk) {
+        BookingService.Change booked = service.book(clerk.roomNumber, clerk.from, clerk.to);
+        DateRange range = booked.after().find(clerk.from.toEpochDay(), clerk.to.toEpochDay());
+        return service.cancel(clerk.roomNumber, range);
+    }
+
+    // the same check-then-insert, serialized on the registry as a single global lock would
+    @Benchmark
+    public BookingIndex globalLock(Clerk clerk) {
+        long fromDay = clerk.from.toEpochDay();
+        long toDay = clerk.to.toEpochDay();
+        synchronized (registry) {
+            Room room = registry.get(clerk.roomNumber);
+            if (room.getBookedDates().overlaps(fromDay, toDay)) throw new IllegalStateException("Already booked");
+            BookingIndex booked = new BookingIndex(room.getBookedDates());
+            booked.add(BenchmarkData.range(fromDay, toDay));
+            registry.updateBookings(room, booked);
+        }
+        synchronized (registry) {
+            Room room = registry.get(clerk.roomNumber);
+            BookingIndex cancelled = new BookingIndex(room.getBookedDates());
+            cancelled.remove(cancelled.find(fromDay, toDay));
+            registry.updateBookings(room, cancelled);
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.CustomLinkedList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// measures how building and sizing a CustomLinkedList scales with n.
+// with the tail pointer and cached size, time per op should grow linearly
+// (10x more elements ~ 10x more time), not quadratically.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomLinkedListBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int n;
+
+    private CustomLinkedList<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = build(n);
+    }
+
+    // appends n elements to an empty list
+    @Benchmark
+    public CustomLinkedList<Integer> buildByAdd() {
+        return build(n);
+    }
+
+    // copy constructor, which appends every element of the source
+    @Benchmark
+    public CustomLinkedList<Integer> copy() {
+        return new CustomLinkedList<>(list);
+    }
+
+    // filter keeping every other element, the pattern the linear room filters use
+    @Benchmark
+    public CustomLinkedList<Integer> filterHalf() {
+        return list.filter(i -> (i & 1) == 0);
+    }
+
+    // the same filter as a stream collected back into a list
+    @Benchmark
+    public CustomLinkedList<Integer> streamFilterHalf() {
+        return list.stream().filter(i -> (i & 1) == 0).collect(CustomLinkedList.collector());
+    }
+
+    // and split across the common pool by the list's spliterator
+    @Benchmark
+    public CustomLinkedList<Integer> parallelStreamFilterHalf() {
+        return list.parallelStream().filter(i -> (i & 1) == 0).collect(CustomLinkedList.collector());
+    }
+
+    // visiting every element through a toList() copy, as callers did before stream()/forEach
+    @Benchmark
+    public long toListSum() {
+        long sum = 0;
+        for (int i : list.toList()) sum += i;
+        return sum;
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return list.stream().mapToLong(i -> i).sum();
+    }
+
+    // calls size() once per loop test, like the old index loops in HelloController
+    @Benchmark
+    public void sizeInLoop(Blackhole bh) {
+        for (int i = 0; i < list.size(); i++) {
+            bh.consume(i);
+        }
+    }
+
+    private static CustomLinkedList<Integer> build(int n) {
+        CustomLinkedList<Integer> result = new CustomLinkedList<>();
+        for (int i = 0; i < n; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.BookingIndex;
+import com.example.finalproject.engine.DateRange;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// overlap checks for one room's bookings: DateRange.overlaps over every booking (by LocalDate,
+// which converts the dates on each call, and by epoch day) against BookingIndex's binary search.
+// each call checks a two week stay against every room of a small inventory, so the per-room
+// booking lists vary; the density decides how many of those stays find an overlap.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateRangeBenchmark {
+    private static final int ROOMS = 1000;
+
+    @Param({"5", "50"})
+    private int bookingsPerRoom;
+
+    @Param({"0.1", "0.5"})
+    private double density;
+
+    private List<DateRange>[] bookingLists;
+    private BookingIndex[] indexes;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        RoomRegistry registry = BenchmarkData.inventory(ROOMS, bookingsPerRoom, density, 42);
+        bookingLists = new List[ROOMS];
+        indexes = new BookingIndex[ROOMS];
+        for (int i = 0; i < ROOMS; i++) {
+            Room room = registry.getAt(i);
+            indexes[i] = room.getBookedDates();
+            bookingLists[i] = indexes[i].toList();
+        }
+        from = LocalDate.now().plusDays(30);
+        to = from.plusDays(14);
+    }
+
+    // the original check: every booking, compared by LocalDate
+    @Benchmark
+    public int scanLocalDates() {
+        int overlapping = 0;
+        for (List<DateRange> bookings : bookingLists) {
+            for (DateRange range : bookings) {
+                if (range.overlaps(from, to)) {
+                    overlapping++;
+                    break;
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public int scanEpochDays() {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        int overlapping = 0;
+        for (List<DateRange> bookings : bookingLists) {
+            for (DateRange range : bookings) {
+                if (range.overlaps(fromDay, toDay)) {
+                    overlapping++;
+                    break;
+                }
+            }
+        }
+        return overlapping;
+    }
+
+    @Benchmark
+    public int bookingIndex() {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        int overlapping = 0;
+        for (BookingIndex bookings : indexes) {
+            if (bookings.overlaps(fromDay, toDay)) overlapping++;
+        }
+        return overlapping;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.CustomLinkedList;
+import com.example.finalproject.engine.Room;
+
+import java.time.LocalDate;
+
+// the list filters the app used before RoomQuery, kept as the benchmarks' baseline:
+// each one is a full pass over a CustomLinkedList that copies the matches into a new list
+final class LinearRoomFilter {
+    private LinearRoomFilter() {} // Prevent instantiation
+
+    // filters by exact room type (case-insensitive) Example: "Standard Single"
+    static CustomLinkedList<Room> filterByType(CustomLinkedList<Room> rooms, String type) {
+        return rooms.filter(r -> r.getRoomType().equalsIgnoreCase(type));
+    }
+
+    // rooms with an overlapping booking if cancel is true, rooms free for the whole range if not
+    static CustomLinkedList<Room> filterByDate(CustomLinkedList<Room> rooms, LocalDate from, LocalDate to, boolean cancel) {
+        if (from == null || to == null || from.isAfter(to)) return rooms;
+        return rooms.filter(room -> room.getBookedDates().overlaps(from, to) == cancel);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.RoomFilterCriteria;
+import com.example.finalproject.engine.RoomQuery;
+import com.example.finalproject.engine.RoomQueryResult;
+import com.example.finalproject.engine.RoomRegistry;
+import com.example.finalproject.engine.Constants;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// compares the sequential and the parallel RoomQuery sweep over a large inventory, with the
+// parallel sweep run in fork-join pools of different sizes ("cores").
+// "inHorizon" searches are answered from the availability bitmap; the others fall outside its
+// horizon, so every room's own booking index is checked, which is where parallelism pays off.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelFilterBenchmark {
+    @Param({"200000"})
+    private int rooms;
+
+    @Param({"1", "2", "4", "8"})
+    private int cores;
+
+    @Param({"true", "false"})
+    private boolean inHorizon;
+
+    private RoomRegistry registry;
+    private RoomQuery query;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkData.inventory(rooms, 20, 42);
+        registry.getAvailability();
+        registry.getStore();
+
+        RoomFilterCriteria criteria = new RoomFilterCriteria();
+        criteria.roomType = Constants.ACTION_ANY;
+        criteria.action = Constants.ACTION_BOOK;
+        criteria.numberText = "";
+        criteria.from = LocalDate.now().plusDays(inHorizon ? 30 : 900);
+        criteria.to = criteria.from.plusDays(14);
+        query = RoomQuery.compile(criteria);
+        pool = new ForkJoinPool(cores);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public RoomQueryResult sequential() {
+        return query.execute(registry, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public RoomQueryResult parallel() {
+        return pool.submit(() -> query.execute(registry, 0)).join();
+    }
+}
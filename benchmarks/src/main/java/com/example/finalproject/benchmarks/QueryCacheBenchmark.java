@@ -0,0 +1,107 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.Constants;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomFilter;
+import com.example.finalproject.engine.RoomFilterCriteria;
+import com.example.finalproject.engine.RoomQueryCache;
+import com.example.finalproject.engine.RoomQueryResult;
+import com.example.finalproject.engine.RoomRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// a user toggling between the same few searches: every toggle re-runs the query (uncached),
+// is answered by RoomQueryCache (cached), or follows a booking save, which invalidates the cache.
+// the cached runs report their cache hits and misses as extra JMH counters.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryCacheBenchmark {
+    @Param({"10000", "100000"})
+    private int rooms;
+
+    private RoomRegistry registry;
+    private RoomQueryCache cache;
+    private RoomFilterCriteria[] searches;
+    private Room saved; // room whose bookings are re-saved to invalidate the cache
+    private int next;
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkData.inventory(rooms, 20, 42);
+        registry.getAvailability();
+        cache = new RoomQueryCache(registry);
+        saved = registry.getAt(0);
+
+        LocalDate from = LocalDate.now().plusDays(30);
+        searches = new RoomFilterCriteria[] {
+                criteria("Junior Suite", Constants.ACTION_BOOK, from),
+                criteria("Junior Suite", Constants.ACTION_CANCEL, from),
+                criteria(Constants.ACTION_ANY, Constants.ACTION_BOOK, from),
+                criteria("Platinum Suite", Constants.ACTION_ANY, from),
+        };
+    }
+
+    @Benchmark
+    public RoomQueryResult uncached() {
+        return RoomFilter.applyFilters(registry, nextSearch());
+    }
+
+    @Benchmark
+    public RoomQueryResult cached(CacheCounters counters) {
+        return counters.search(cache, nextSearch());
+    }
+
+    // a save before every search, so each one misses
+    @Benchmark
+    public RoomQueryResult cachedAfterSave(CacheCounters counters) {
+        registry.updateBookings(saved, saved.getBookedDates());
+        return counters.search(cache, nextSearch());
+    }
+
+    // cache hits and misses per iteration, reported next to the score
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+
+        RoomQueryResult search(RoomQueryCache cache, RoomFilterCriteria criteria) {
+            long before = cache.getHits();
+            RoomQueryResult result = cache.search(criteria);
+            if (cache.getHits() > before) {
+                hits++;
+            } else {
+                misses++;
+            }
+            return result;
+        }
+    }
+
+    private RoomFilterCriteria nextSearch() {
+        RoomFilterCriteria criteria = searches[next];
+        next = (next + 1) % searches.length;
+        return criteria;
+    }
+
+    private static RoomFilterCriteria criteria(String roomType, String action, LocalDate from) {
+        RoomFilterCriteria criteria = new RoomFilterCriteria();
+        criteria.roomType = roomType;
+        criteria.action = action;
+        criteria.numberText = "";
+        criteria.from = from;
+        criteria.to = from.plusDays(14);
+        return criteria;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.Constants;
+import com.example.finalproject.engine.CustomLinkedList;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomFilter;
+import com.example.finalproject.engine.RoomFilterCriteria;
+import com.example.finalproject.engine.RoomQueryResult;
+import com.example.finalproject.engine.RoomRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// compares the old multi-pass filter chain (copy the list, then one filter pass per
+// criterion) with the fused single-pass RoomQuery. run with "-prof gc" to compare
+// allocation per search (gc.alloc.rate.norm).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomFilterBenchmark {
+    @Param({"1000", "10000", "100000"})
+    private int rooms;
+
+    private RoomRegistry registry;
+    private CustomLinkedList<Room> roomList;
+    private RoomFilterCriteria criteria;
+
+    @Setup
+    public void setUp() {
+        registry = BenchmarkData.inventory(rooms, 20, 42);
+        roomList = registry.toLinkedList();
+        registry.getAvailability();
+
+        // "Book" a Junior Suite for two weeks next month
+        criteria = new RoomFilterCriteria();
+        criteria.roomType = "Junior Suite";
+        criteria.action = Constants.ACTION_BOOK;
+        criteria.numberText = "";
+        criteria.from = LocalDate.now().plusDays(30);
+        criteria.to = criteria.from.plusDays(14);
+    }
+
+    // the pre-fusion pipeline: full copy, then a type pass and a date pass
+    @Benchmark
+    public CustomLinkedList<Room> multiPass() {
+        CustomLinkedList<Room> filtered = new CustomLinkedList<>(roomList);
+        filtered = LinearRoomFilter.filterByType(filtered, criteria.roomType);
+        return LinearRoomFilter.filterByDate(filtered, criteria.from, criteria.to, criteria.isCancelAction());
+    }
+
+    @Benchmark
+    public RoomQueryResult fused() {
+        return RoomFilter.applyFilters(registry, criteria);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.CustomLinkedList;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomInitializer;
+import com.example.finalproject.engine.RoomRegistry;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// compares loading rooms_1.json the old way (readValue into a List<Room>, copied into a
+// CustomLinkedList and then a RoomRegistry) with the streaming RoomInitializer.loadRooms.
+// besides the load time, each run reports the peak heap seen while loading (peakHeapMb).
+// the peak includes garbage the collector hadn't reclaimed yet, so compare runs with the same -Xmx.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class RoomLoadBenchmark {
+    @Param({"10000", "100000"})
+    private int rooms;
+
+    @Param({"50"})
+    private int bookingsPerRoom;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void writeFile() throws IOException {
+        file = Files.createTempFile("rooms", ".json");
+        RoomInitializer.writeRooms(BenchmarkData.inventory(rooms, bookingsPerRoom, 42).toList(), file);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    // peak heap during one load: a GC and a reset of the pool peaks before it, the sum of the
+    // heap pools' peak usage after it
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PeakHeap {
+        private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+
+        public double peakHeapMb;
+
+        @Setup(Level.Invocation)
+        public void reset() {
+            System.gc();
+            HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+        }
+
+        @TearDown(Level.Invocation)
+        public void record() {
+            long peak = 0;
+            for (MemoryPoolMXBean pool : HEAP_POOLS) peak += pool.getPeakUsage().getUsed();
+            peakHeapMb = peak / (1024.0 * 1024.0);
+        }
+    }
+
+    @Benchmark
+    public RoomRegistry readValueAndCopy(PeakHeap heap) throws IOException {
+        List<Room> list = new ObjectMapper().readValue(file.toFile(), new TypeReference<List<Room>>() {});
+        CustomLinkedList<Room> linked = new CustomLinkedList<>();
+        for (Room room : list) linked.add(room);
+        return new RoomRegistry(linked);
+    }
+
+    @Benchmark
+    public RoomRegistry streaming(PeakHeap heap) throws IOException {
+        return RoomInitializer.loadRooms(file);
+    }
+}
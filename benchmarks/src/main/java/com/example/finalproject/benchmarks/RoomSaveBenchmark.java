@@ -0,0 +1,63 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomInitializer;
+import com.example.finalproject.engine.RoomSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// writing the whole inventory, as a save (or a journal compaction) does: pretty-printed JSON
+// through RoomInitializer.writeRooms against the binary RoomSnapshot. both write a temporary
+// file and rename it over the target.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class RoomSaveBenchmark {
+    @Param({"10000", "100000"})
+    private int rooms;
+
+    @Param({"20"})
+    private int bookingsPerRoom;
+
+    @Param({"0.36"})
+    private double density;
+
+    private List<Room> roomList;
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        roomList = BenchmarkData.inventory(rooms, bookingsPerRoom, density, 42).toList();
+        directory = Files.createTempDirectory("rooms");
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public Path json() throws IOException {
+        Path file = directory.resolve("rooms_1.json");
+        RoomInitializer.writeRooms(roomList, file);
+        return file;
+    }
+
+    @Benchmark
+    public Path snapshot() throws IOException {
+        Path file = directory.resolve("rooms_1.snapshot");
+        RoomSnapshot.write(roomList, file);
+        return file;
+    }
+}
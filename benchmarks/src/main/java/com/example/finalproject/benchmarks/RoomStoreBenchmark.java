@@ -0,0 +1,53 @@
+package com.example.finalproject.benchmarks;
+
+import com.example.finalproject.engine.CustomLinkedList;
+import com.example.finalproject.engine.Room;
+import com.example.finalproject.engine.RoomRegistry;
+import com.example.finalproject.engine.RoomStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+
+// compares a price-range scan over Room objects reached through CustomLinkedList nodes
+// (the old layout) with a sweep over RoomStore's int[] price column.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoomStoreBenchmark {
+    @Param({"10000", "100000"})
+    private int rooms;
+
+    private RoomStore store;
+    private CustomLinkedList<Room> objects;
+
+    @Setup
+    public void setUp() {
+        RoomRegistry registry = BenchmarkData.inventory(rooms, 0, 42);
+        store = registry.getStore();
+
+        // stand-alone copies, so their fields live in the objects as before the store existed
+        objects = new CustomLinkedList<>();
+        for (Room room : registry) {
+            objects.add(new Room(room.getRoomType(), room.getRoomNumber(), room.getIncludes(), room.getPrice(), room.getImageName()));
+        }
+    }
+
+    @Benchmark
+    public CustomLinkedList<Room> objectScan() {
+        return objects.filter(room -> room.getPrice() >= 150 && room.getPrice() <= 300);
+    }
+
+    @Benchmark
+    public BitSet columnScan() {
+        return store.roomsWithPriceBetween(150, 300);
+    }
+
+    @Benchmark
+    public BitSet typeColumnScan() {
+        return store.roomsOfType(store.typeIdOf("Junior Suite"));
+    }
+}
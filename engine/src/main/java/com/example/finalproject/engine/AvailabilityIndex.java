@@ -0,0 +1,212 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// hotel-wide occupancy bitmap used by "Book" and "Cancel" searches.
+// keeps one long[] bitset per day over a rolling horizon (about 2 years from today);
+// bit i of a day is set when the room with registry ordinal i is booked on that day.
+// "which rooms are booked between X and Y" is then an OR of the day bitsets, and the
+// free rooms are its complement. days outside the horizon fall back to each room's BookingIndex.
+public class AvailabilityIndex {
+    public static final int DEFAULT_HORIZON_DAYS = 731;
+
+    private final RoomRegistry rooms;
+    private final int horizonDays;
+    private final long[][] days; // ring buffer: epoch day d lives at days[floorMod(d, horizonDays)]
+    private long firstDay; // first epoch day covered by the horizon
+    private int words; // longs per day bitset
+
+    public AvailabilityIndex(RoomRegistry rooms) {
+        this(rooms, LocalDate.now().toEpochDay(), DEFAULT_HORIZON_DAYS);
+    }
+
+    public AvailabilityIndex(RoomRegistry rooms, long firstDay, int horizonDays) {
+        if (horizonDays <= 0) throw new IllegalArgumentException("Horizon must be positive: " + horizonDays);
+        this.rooms = rooms;
+        this.horizonDays = horizonDays;
+        this.days = new long[horizonDays][];
+        this.firstDay = firstDay;
+        this.words = wordsFor(rooms.size());
+        for (int i = 0; i < horizonDays; i++) {
+            days[i] = new long[words];
+        }
+        for (int ordinal = 0; ordinal < rooms.size(); ordinal++) {
+            int room = ordinal;
+            rooms.forEachBooking(room, (start, end) -> mark(room, start, end));
+        }
+    }
+
+    public long getFirstDay() {
+        return firstDay;
+    }
+
+    public long getLastDay() {
+        return firstDay + horizonDays - 1;
+    }
+
+    // returns a bitset (by room ordinal) of rooms with at least one booking overlapping [from, to].
+    public long[] bookedRooms(LocalDate from, LocalDate to) {
+        return bookedRooms(from.toEpochDay(), to.toEpochDay());
+    }
+
+    public long[] bookedRooms(long fromDay, long toDay) {
+        long[] result = new long[words];
+        long start = Math.max(fromDay, firstDay);
+        long end = Math.min(toDay, getLastDay());
+        for (long day = start; day <= end; day++) {
+            long[] bits = days[slot(day)];
+            for (int w = 0; w < words; w++) {
+                result[w] |= bits[w];
+            }
+        }
+
+        // part of the range is outside the horizon: ask the remaining rooms' own indexes
+        if (fromDay < firstDay || toDay > getLastDay()) {
+            int size = rooms.size();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (!isSet(result, ordinal) && rooms.overlapsBooking(ordinal, fromDay, toDay)) {
+                    result[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+        }
+        return result;
+    }
+
+    // returns a bitset (by room ordinal) of rooms with no booking overlapping [from, to].
+    public long[] freeRooms(LocalDate from, LocalDate to) {
+        return freeRooms(from.toEpochDay(), to.toEpochDay());
+    }
+
+    public long[] freeRooms(long fromDay, long toDay) {
+        long[] result = bookedRooms(fromDay, toDay);
+        for (int w = 0; w < words; w++) {
+            result[w] = ~result[w];
+        }
+        clearUnusedBits(result, rooms.size());
+        return result;
+    }
+
+    // true if the bit for the given ordinal is set in a bitset returned by this index
+    public static boolean isSet(long[] bits, int ordinal) {
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    // for every room in the given bitset (by ordinal), the number of free days running from day
+    // (inclusive) in the direction of step (-1 back, +1 forward) until its first booked day or the
+    // edge of the horizon. one sweep over the day bitsets answers it for all of the rooms at once,
+    // and it stops as soon as every one of them has met a booking. indexed by ordinal.
+    public int[] freeDaysFrom(long[] roomSet, long day, int step) {
+        int[] result = new int[rooms.size()];
+        long[] open = Arrays.copyOf(roomSet, words);
+        int[] active = new int[words]; // words that still have open rooms, so closed ones are skipped
+        int activeCount = 0;
+        for (int w = 0; w < words; w++) {
+            if (open[w] != 0) active[activeCount++] = w;
+        }
+        int run = 0;
+        for (long d = day; activeCount > 0 && d >= firstDay && d <= getLastDay(); d += step, run++) {
+            long[] bits = days[slot(d)];
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int w = active[i];
+                long closed = open[w] & bits[w];
+                if (closed != 0) {
+                    open[w] &= ~closed;
+                    fill(result, w, closed, run);
+                }
+                if (open[w] != 0) active[kept++] = w;
+            }
+            activeCount = kept;
+        }
+        for (int i = 0; i < activeCount; i++) {
+            fill(result, active[i], open[active[i]], run); // free up to the edge of the horizon
+        }
+        return result;
+    }
+
+    // makes room for a newly registered room and marks its bookings
+    public void addRoom(int ordinal, Room room) {
+        if (wordsFor(ordinal + 1) > words) {
+            words *= 2; // grow geometrically so registering rooms one by one stays cheap
+            for (int i = 0; i < horizonDays; i++) {
+                days[i] = Arrays.copyOf(days[i], words);
+            }
+        }
+        for (DateRange range : room.getBookedDates()) {
+            mark(ordinal, range.getStartDay(), range.getEndDay());
+        }
+    }
+
+    // incrementally applies a room's booking change: only the days of removed and added ranges are touched.
+    public void updateRoom(int ordinal, BookingIndex before, BookingIndex after) {
+        long mask = 1L << ordinal;
+        int word = ordinal >>> 6;
+        for (DateRange range : before) {
+            if (after.contains(range)) continue;
+            long start = Math.max(range.getStartDay(), firstDay);
+            long end = Math.min(range.getEndDay(), getLastDay());
+            for (long day = start; day <= end; day++) {
+                // another booking may still cover this day if the data had overlapping ranges
+                if (!after.overlaps(day, day)) days[slot(day)][word] &= ~mask;
+            }
+        }
+        for (DateRange range : after) {
+            if (!before.contains(range)) mark(ordinal, range.getStartDay(), range.getEndDay());
+        }
+    }
+
+    // moves the horizon forward so it starts at the given day.
+    // days that fall off the front are reused for the new days at the end.
+    public void rollTo(long newFirstDay) {
+        if (newFirstDay <= firstDay) return;
+        long oldLastDay = getLastDay();
+        firstDay = newFirstDay;
+        long from = Math.max(oldLastDay + 1, firstDay);
+        for (long day = from; day <= getLastDay(); day++) {
+            long[] bits = days[slot(day)];
+            Arrays.fill(bits, 0L);
+            for (int ordinal = 0; ordinal < rooms.size(); ordinal++) {
+                if (rooms.overlapsBooking(ordinal, day, day)) {
+                    bits[ordinal >>> 6] |= 1L << ordinal;
+                }
+            }
+        }
+    }
+
+    // sets the room's bit for every day of [startDay, endDay] inside the horizon
+    private void mark(int ordinal, long startDay, long endDay) {
+        long mask = 1L << ordinal;
+        int word = ordinal >>> 6;
+        long start = Math.max(startDay, firstDay);
+        long end = Math.min(endDay, getLastDay());
+        for (long day = start; day <= end; day++) {
+            days[slot(day)][word] |= mask;
+        }
+    }
+
+    // sets values[ordinal] for every bit of one bitset word
+    private static void fill(int[] values, int word, long bits, int value) {
+        while (bits != 0) {
+            values[(word << 6) + Long.numberOfTrailingZeros(bits)] = value;
+            bits &= bits - 1;
+        }
+    }
+
+    private int slot(long day) {
+        return (int) Math.floorMod(day, (long) horizonDays);
+    }
+
+    private static int wordsFor(int bits) {
+        return Math.max(1, (bits + 63) >>> 6);
+    }
+
+    // clears bits past the last room so complemented sets don't report phantom rooms
+    private static void clearUnusedBits(long[] bits, int size) {
+        int fullWords = size >>> 6;
+        if (fullWords < bits.length) {
+            bits[fullWords] &= (1L << (size & 63)) - 1;
+            Arrays.fill(bits, fullWords + 1, bits.length, 0L);
+        }
+    }
+}
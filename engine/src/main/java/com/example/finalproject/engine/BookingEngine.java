@@ -0,0 +1,148 @@
+package com.example.finalproject.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+// headless core of the resort app: the room inventory with its searches, bookings and persistence.
+// the JavaFX client is a thin layer over this class, and a server, load test or benchmark
+// can drive the same engine without any UI toolkit on the module path.
+// searches go through a RoomQueryCache and changes through a BookingService, so the engine
+// can be used from several threads at once. saving never blocks the caller: changes are appended
+// to the booking journal, or written by a background RoomWriter if there is no journal, and
+// failures are reported to the listeners registered with onSaveFailure.
+public class BookingEngine implements AutoCloseable {
+    public static final Duration METRICS_LOG_PERIOD = Duration.ofMinutes(1);
+
+    private final RoomRegistry rooms;
+    private final RoomQueryCache queryCache;
+    private final BookingService bookings;
+    private final BookingJournal journal; // null if the journal file couldn't be opened
+    private final RoomWriter writer; // saves every room when there is no journal; null for in-memory engines
+    private final List<Consumer<Throwable>> failureListeners = new CopyOnWriteArrayList<>();
+    // completes once every save queued so far has finished (successfully or not)
+    private final AtomicReference<CompletableFuture<Void>> saves = new AtomicReference<>(CompletableFuture.completedFuture(null));
+
+    private BookingEngine(RoomRegistry rooms, BookingJournal journal, boolean persistent) {
+        this.rooms = rooms;
+        this.queryCache = new RoomQueryCache(rooms);
+        this.journal = journal;
+        this.writer = persistent && journal == null ? new RoomWriter(rooms) : null;
+        this.bookings = new BookingService(rooms, BookingService.DEFAULT_STRIPES, this::persist);
+    }
+
+    // opens the rooms saved in the user's home directory and replays the bookings journaled since.
+    // also publishes the runtime metrics over JMX and starts dumping them to rooms_1.metrics.log.
+    public static BookingEngine open() {
+        RoomRegistry rooms = RoomInitializer.initializeRooms();
+        BookingEngine engine = new BookingEngine(rooms, RoomInitializer.openJournal(rooms), true);
+        Metrics.registerGauge("search.cacheHits", engine.queryCache::getHits);
+        Metrics.registerGauge("search.cacheMisses", engine.queryCache::getMisses);
+        Metrics.registerGauge("rooms", rooms::size);
+        Metrics.registerMBean();
+        Metrics.startLogging(Path.of(RoomInitializer.METRICS_FILE), METRICS_LOG_PERIOD);
+        return engine;
+    }
+
+    // an engine over the given rooms that never writes to disk (for load tests and benchmarks)
+    public static BookingEngine inMemory(RoomRegistry rooms) {
+        return new BookingEngine(rooms, null, false);
+    }
+
+    public RoomRegistry getRooms() {
+        return rooms;
+    }
+
+    // hit/miss counts of the search cache
+    public RoomQueryCache getQueryCache() {
+        return queryCache;
+    }
+
+    // called with the error whenever a change could not be saved, on a background thread
+    public void onSaveFailure(Consumer<Throwable> listener) {
+        failureListeners.add(listener);
+    }
+
+    // completes once every change made so far is on disk (or has failed to save)
+    public CompletableFuture<Void> flush() {
+        return saves.get();
+    }
+
+    // runs a search; returns null if the room number input is invalid (see RoomFilter.applyFilters)
+    public RoomQueryResult search(RoomFilterCriteria criteria) {
+        long start = System.nanoTime();
+        RoomQueryResult result = queryCache.search(criteria);
+        Metrics.SEARCH_TOTAL.recordSince(start);
+        return result;
+    }
+
+    // picks up to count free rooms of the type for [from, to], tightest fit first (see RoomAllocator);
+    // nothing is booked, so the caller can show them or pass them on to applyBatch
+    public List<Room> allocate(String roomType, int count, LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+        List<Room> result = RoomAllocator.allocate(rooms, roomType, count, from, to);
+        Metrics.ALLOCATION_LATENCY.recordSince(start);
+        return result;
+    }
+
+    // books [from, to] for the room and saves it; returns null if the dates are taken
+    public BookingService.Change book(int roomNumber, LocalDate from, LocalDate to) {
+        return bookings.book(roomNumber, from, to);
+    }
+
+    // cancels the booking with the same dates and saves it; returns null if there is none
+    public BookingService.Change cancel(int roomNumber, DateRange range) {
+        return bookings.cancel(roomNumber, range);
+    }
+
+    // applies the edits made to a copy of the room's bookings and saves them;
+    // returns null, with nothing applied, if they conflict with a booking made meanwhile
+    public BookingService.Change apply(int roomNumber, BookingIndex base, BookingIndex edited) {
+        return bookings.apply(roomNumber, base, edited);
+    }
+
+    // applies a group of bookings and cancellations all-or-nothing (see BookingService.batch) and
+    // saves the whole batch in one journal append, or one room write without a journal
+    public BookingService.BatchResult applyBatch(List<BookingService.Request> requests) {
+        return bookings.batch(requests);
+    }
+
+    // flushes pending journal and room writes; called when the application exits
+    @Override
+    public void close() throws IOException {
+        Metrics.stopLogging(); // writes a last dump
+        if (writer != null) writer.close();
+        if (journal != null) journal.close();
+    }
+
+    // persists committed changes in the background by appending them to the journal (every so often
+    // the journal is folded into a fresh rooms_1.json snapshot), or by queueing a full write without
+    // one. BookingService calls this while the rooms' locks are held, so the journal records of one
+    // room are queued in the order its changes were made; a batch is one append.
+    private void persist(List<BookingService.Change> changes) {
+        if (journal != null) {
+            persisted(journal.recordChanges(changes));
+            persisted(journal.compactIfNeeded(() -> RoomInitializer.saveRooms(rooms)));
+        } else if (writer != null) {
+            persisted(writer.save());
+        }
+    }
+
+    // tracks a pending save so flush() waits for it and failures reach the listeners.
+    // saves can finish out of order (a compaction after a later append, a full write), so each one
+    // is chained onto the earlier ones rather than replacing them.
+    private void persisted(CompletableFuture<Void> saved) {
+        if (saved.isDone() && !saved.isCompletedExceptionally()) return;
+        CompletableFuture<Void> settled = saved.handle((ok, error) -> {
+            if (error != null) failureListeners.forEach(listener -> listener.accept(error));
+            return null;
+        });
+        saves.accumulateAndGet(settled, (earlier, next) -> earlier.thenCombine(next, (a, b) -> null));
+    }
+}
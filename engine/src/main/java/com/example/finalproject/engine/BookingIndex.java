@@ -0,0 +1,200 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// sorted index of a room's bookings, stored as parallel arrays of epoch-day pairs.
+// overlap queries are a binary search (O(log k)); insert and cancel find their position
+// by binary search and then shift the tail of the arrays.
+public class BookingIndex implements Iterable<DateRange> {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private DateRange[] ranges = new DateRange[INITIAL_CAPACITY]; // sorted by start day
+    private long[] starts = new long[INITIAL_CAPACITY]; // start epoch day of ranges[i]
+    private long[] ends = new long[INITIAL_CAPACITY]; // end epoch day of ranges[i] (inclusive)
+    private long[] maxEnds = new long[INITIAL_CAPACITY]; // max of ends[0..i], keeps queries exact if ranges overlap
+    private int size;
+
+    public BookingIndex() {
+    }
+
+    // copy constructor: the copy can be edited without touching this index
+    public BookingIndex(BookingIndex other) {
+        if (other == null) return;
+        ranges = Arrays.copyOf(other.ranges, Math.max(other.size, INITIAL_CAPACITY));
+        starts = Arrays.copyOf(other.starts, ranges.length);
+        ends = Arrays.copyOf(other.ends, ranges.length);
+        maxEnds = Arrays.copyOf(other.maxEnds, ranges.length);
+        size = other.size;
+    }
+
+    // builds an index from any collection of ranges (e.g. deserialized JSON)
+    public BookingIndex(Iterable<DateRange> source) {
+        for (DateRange range : source) {
+            add(range);
+        }
+    }
+
+    // inserts a booking, keeping the arrays sorted by start day
+    public void add(DateRange range) {
+        long start = range.getStartDay();
+        long end = range.getEndDay();
+
+        if (size == ranges.length) grow();
+        int pos = upperBound(start); // after any range with the same start, so order stays stable
+        int moved = size - pos;
+        System.arraycopy(ranges, pos, ranges, pos + 1, moved);
+        System.arraycopy(starts, pos, starts, pos + 1, moved);
+        System.arraycopy(ends, pos, ends, pos + 1, moved);
+        System.arraycopy(maxEnds, pos, maxEnds, pos + 1, moved);
+        ranges[pos] = range;
+        starts[pos] = start;
+        ends[pos] = end;
+        size++;
+        recomputeMaxEnds(pos);
+    }
+
+    // removes the booking with the same start and end day; returns false if there is none
+    // (an equal range read back from JSON or copied by a dialog matches, not only the same object)
+    public boolean remove(DateRange range) {
+        if (range == null) return false;
+        int pos = positionOf(range.getStartDay(), range.getEndDay());
+        if (pos < 0) return false;
+        removeAt(pos);
+        return true;
+    }
+
+    // returns true if a booking with the same start and end day is in the index
+    // (an equal range read back from JSON or copied by a dialog matches, not only the same object)
+    public boolean contains(DateRange range) {
+        return range != null && positionOf(range.getStartDay(), range.getEndDay()) >= 0;
+    }
+
+    // returns the booking with exactly these start and end days, or null
+    public DateRange find(long startDay, long endDay) {
+        int pos = positionOf(startDay, endDay);
+        return pos < 0 ? null : ranges[pos];
+    }
+
+    // checks if any booking overlaps the given date range (both ends inclusive).
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return overlaps(from.toEpochDay(), to.toEpochDay());
+    }
+
+    // epoch-day version of overlaps; only bookings starting on or before toDay can overlap,
+    // and the latest end among them decides the answer.
+    public boolean overlaps(long fromDay, long toDay) {
+        int last = upperBound(toDay) - 1;
+        return last >= 0 && maxEnds[last] >= fromDay;
+    }
+
+    // the latest end day among bookings starting before the given day, or Long.MIN_VALUE if none
+    public long lastEndBefore(long day) {
+        int last = upperBound(day - 1) - 1;
+        return last >= 0 ? maxEnds[last] : Long.MIN_VALUE;
+    }
+
+    // the earliest start day of a booking starting after the given day, or Long.MAX_VALUE if none
+    public long firstStartAfter(long day) {
+        int next = upperBound(day);
+        return next < size ? starts[next] : Long.MAX_VALUE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // converts the index to a standard Java List, sorted by start date
+    public List<DateRange> toList() {
+        return new ArrayList<>(Arrays.asList(ranges).subList(0, size));
+    }
+
+    // iterates bookings in start-date order
+    @Override
+    public Iterator<DateRange> iterator() {
+        return new Iterator<DateRange>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public DateRange next() {
+                if (next >= size) throw new NoSuchElementException();
+                return ranges[next++];
+            }
+        };
+    }
+
+    // returns the first position whose start day is greater than the given day
+    private int upperBound(long day) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= day) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // finds the position of the booking with these start and end days, or -1.
+    // only ranges with the same start day can match, and they sit right before upperBound(startDay)
+    private int positionOf(long startDay, long endDay) {
+        for (int i = upperBound(startDay) - 1; i >= 0 && starts[i] == startDay; i--) {
+            if (ends[i] == endDay) return i;
+        }
+        return -1;
+    }
+
+    private void removeAt(int pos) {
+        int moved = size - pos - 1;
+        System.arraycopy(ranges, pos + 1, ranges, pos, moved);
+        System.arraycopy(starts, pos + 1, starts, pos, moved);
+        System.arraycopy(ends, pos + 1, ends, pos, moved);
+        System.arraycopy(maxEnds, pos + 1, maxEnds, pos, moved);
+        ranges[--size] = null;
+        recomputeMaxEnds(pos);
+    }
+
+    // refreshes the running max from the given position; once a stored value is already
+    // correct every later one is too, so for non-overlapping bookings this stops right away
+    private void recomputeMaxEnds(int from) {
+        for (int i = from; i < size; i++) {
+            long max = i == 0 ? ends[0] : Math.max(maxEnds[i - 1], ends[i]);
+            if (i > from && maxEnds[i] == max) break;
+            maxEnds[i] = max;
+        }
+    }
+
+    // shrinks the arrays to the number of bookings (e.g. once a room has been loaded)
+    public void trimToSize() {
+        int capacity = Math.max(size, INITIAL_CAPACITY);
+        if (capacity == ranges.length) return;
+        ranges = Arrays.copyOf(ranges, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        maxEnds = Arrays.copyOf(maxEnds, capacity);
+    }
+
+    private void grow() {
+        int capacity = ranges.length * 2;
+        ranges = Arrays.copyOf(ranges, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        ends = Arrays.copyOf(ends, capacity);
+        maxEnds = Arrays.copyOf(maxEnds, capacity);
+    }
+}
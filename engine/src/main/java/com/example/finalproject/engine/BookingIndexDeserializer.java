@@ -0,0 +1,35 @@
+package com.example.finalproject.engine;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+// reads a room's "bookedDates" JSON array straight into a BookingIndex, one range at a time,
+// without building an intermediate List<DateRange> first.
+public class BookingIndexDeserializer extends StdDeserializer<BookingIndex> {
+    public BookingIndexDeserializer() {
+        super(BookingIndex.class);
+    }
+
+    @Override
+    public BookingIndex deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        BookingIndex bookings = new BookingIndex();
+        if (!parser.isExpectedStartArrayToken()) {
+            return (BookingIndex) context.handleUnexpectedToken(BookingIndex.class, parser);
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            bookings.add(context.readValue(parser, DateRange.class));
+        }
+        bookings.trimToSize();
+        return bookings;
+    }
+
+    // a null "bookedDates" still gives the room an (empty) index
+    @Override
+    public BookingIndex getNullValue(DeserializationContext context) {
+        return new BookingIndex();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.finalproject.engine;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+// writes a BookingIndex as the "bookedDates" JSON array straight from the index,
+// without copying it into a List<DateRange> first (the counterpart of BookingIndexDeserializer)
+public class BookingIndexSerializer extends StdSerializer<BookingIndex> {
+    public BookingIndexSerializer() {
+        super(BookingIndex.class);
+    }
+
+    @Override
+    public void serialize(BookingIndex bookings, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        JsonSerializer<Object> rangeSerializer = provider.findValueSerializer(DateRange.class);
+        generator.writeStartArray(bookings, bookings.size());
+        for (DateRange range : bookings) {
+            rangeSerializer.serialize(range, generator, provider);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.finalproject.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// append-only write-ahead journal of booking and cancel events.
+// a save appends one short line per changed booking instead of rewriting rooms_1.json:
+//     B <room number> <start epoch day> <end epoch day>    (booked)
+//     C <room number> <start epoch day> <end epoch day>    (cancelled)
+// a single writer thread batches whatever is queued into one write + fsync (group commit).
+// compaction folds the journal into a fresh snapshot (rooms_1.json) and truncates it;
+// startup loads the snapshot and replays the journal tail on top of it.
+public class BookingJournal implements AutoCloseable {
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500; // events between snapshots
+
+    private final Path file;
+    private final FileChannel channel;
+    private final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger eventsSinceSnapshot = new AtomicInteger();
+    private final AtomicInteger eventsInFile = new AtomicInteger(); // replayed or handled by the writer since the last compaction
+    private final AtomicBoolean compactionQueued = new AtomicBoolean();
+    private final int compactionThreshold;
+    private final Thread writer;
+
+    // a queued unit of work for the writer thread: either lines to append or a compaction
+    private record Task(byte[] lines, int events, SnapshotWriter snapshot, CompletableFuture<Void> done) {}
+
+    // writes the snapshot a compaction folds the journal into (e.g. RoomInitializer.saveRooms);
+    // it must throw if the snapshot couldn't be written durably, so the journal is kept
+    @FunctionalInterface
+    public interface SnapshotWriter {
+        void write() throws IOException;
+    }
+
+    private static final Task CLOSE = new Task(null, 0, null, null);
+
+    public BookingJournal(Path file) throws IOException {
+        this(file, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public BookingJournal(Path file, int compactionThreshold) throws IOException {
+        this.file = file;
+        this.compactionThreshold = compactionThreshold;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = new Thread(this::writeLoop, "booking-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // re-applies the journaled events to rooms loaded from the last snapshot; call before recording.
+    // replay is idempotent (an existing booking isn't added twice, a missing one isn't cancelled),
+    // and an incomplete last line left by a crash is discarded. returns the number of events applied.
+    public int replay(RoomRegistry rooms) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+
+        // everything after the last newline is a write that never completed: drop it,
+        // so new appends don't get glued onto it
+        int complete = content.length;
+        while (complete > 0 && content[complete - 1] != '\n') complete--;
+        if (complete < content.length) {
+            channel.truncate(complete);
+            channel.force(true);
+        }
+
+        int applied = 0;
+        String[] lines = new String(content, 0, complete, StandardCharsets.UTF_8).split("\n");
+        for (String line : lines) {
+            if (applyLine(rooms, line)) applied++;
+        }
+        eventsSinceSnapshot.addAndGet(applied);
+        eventsInFile.addAndGet(applied);
+        return applied;
+    }
+
+    // journals the difference between a room's old and new bookings.
+    // the returned future completes once the events are durable on disk.
+    public CompletableFuture<Void> recordChange(int roomNumber, BookingIndex before, BookingIndex after) {
+        StringBuilder lines = new StringBuilder();
+        return append(lines, appendDifference(lines, roomNumber, before, after));
+    }
+
+    // journals a batch of changes as one append, so they reach the disk in the same write and fsync
+    public CompletableFuture<Void> recordChanges(List<BookingService.Change> changes) {
+        StringBuilder lines = new StringBuilder();
+        int events = 0;
+        for (BookingService.Change change : changes) {
+            events += appendDifference(lines, change.room().getRoomNumber(), change.before(), change.after());
+        }
+        return append(lines, events);
+    }
+
+    // true once enough events have accumulated that a compaction is worthwhile
+    public boolean needsCompaction() {
+        return eventsSinceSnapshot.get() >= compactionThreshold;
+    }
+
+    // queues a compaction if one is due and none is already queued; returns its future, or a
+    // completed one if nothing was queued
+    public CompletableFuture<Void> compactIfNeeded(SnapshotWriter snapshotWriter) {
+        if (!needsCompaction() || !compactionQueued.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Void> compaction = compact(snapshotWriter);
+        compaction.whenComplete((ok, error) -> compactionQueued.set(false));
+        return compaction;
+    }
+
+    // writes a snapshot with the given writer and then truncates the journal; the future fails
+    // with the writer's exception if the snapshot couldn't be written. runs on the writer thread after
+    // every event queued before it, so the snapshot includes all of them; events queued later go
+    // into the fresh journal.
+    public CompletableFuture<Void> compact(SnapshotWriter snapshotWriter) {
+        return enqueue(new Task(null, 0, snapshotWriter, new CompletableFuture<>()));
+    }
+
+    // flushes queued events and stops the writer thread
+    @Override
+    public void close() throws IOException {
+        queue.add(CLOSE);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }
+
+    private CompletableFuture<Void> enqueue(Task task) {
+        if (!writer.isAlive()) {
+            task.done().completeExceptionally(new IOException("Booking journal is closed"));
+        } else {
+            queue.add(task);
+        }
+        return task.done();
+    }
+
+    // writer thread: drains everything queued, writes it, and syncs once per batch
+    private void writeLoop() {
+        List<Task> batch = new ArrayList<>();
+        List<Task> written = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+
+            boolean closing = false;
+            for (Task task : batch) {
+                if (task == CLOSE) {
+                    closing = true;
+                } else if (task.lines() != null) {
+                    written.add(task);
+                    // the change is in the registry before it is queued, so the next snapshot
+                    // covers it even if this write fails
+                    eventsInFile.addAndGet(task.events());
+                    try {
+                        ByteBuffer buffer = ByteBuffer.wrap(task.lines());
+                        while (buffer.hasRemaining()) channel.write(buffer);
+                        Metrics.PERSIST_BYTES.add(task.lines().length);
+                    } catch (IOException e) {
+                        written.remove(task);
+                        Metrics.PERSIST_FAILURES.increment();
+                        task.done().completeExceptionally(e);
+                    }
+                } else {
+                    sync(written);
+                    runCompaction(task);
+                }
+            }
+            sync(written);
+            batch.clear();
+            if (closing) return;
+        }
+    }
+
+    // one fsync for every append written since the last sync, then completes their futures
+    private void sync(List<Task> written) {
+        if (written.isEmpty()) return;
+        long start = System.nanoTime();
+        try {
+            channel.force(false);
+            Metrics.PERSIST_DURATION.recordSince(start);
+            for (Task task : written) task.done().complete(null);
+        } catch (IOException e) {
+            Metrics.PERSIST_FAILURES.increment();
+            for (Task task : written) task.done().completeExceptionally(e);
+        }
+        written.clear();
+    }
+
+    // the snapshot writer must leave the snapshot durable (see FileUtils.replaceDurably) before the
+    // journal is truncated. only the events written before the compaction are folded: events queued
+    // after it stay counted for the next one.
+    private void runCompaction(Task task) {
+        int folded = eventsInFile.get();
+        try {
+            task.snapshot().write();
+        } catch (IOException | RuntimeException e) {
+            task.done().completeExceptionally(e); // journal kept
+            return;
+        }
+        try {
+            channel.truncate(0);
+            channel.force(true);
+            eventsInFile.addAndGet(-folded);
+            eventsSinceSnapshot.addAndGet(-folded);
+            task.done().complete(null);
+        } catch (IOException e) {
+            task.done().completeExceptionally(e);
+        }
+    }
+
+    private CompletableFuture<Void> append(StringBuilder lines, int events) {
+        if (events == 0) return CompletableFuture.completedFuture(null);
+        eventsSinceSnapshot.addAndGet(events);
+        return enqueue(new Task(lines.toString().getBytes(StandardCharsets.UTF_8), events, null, new CompletableFuture<>()));
+    }
+
+    // appends a cancel line for every range only in before and a book line for every range only
+    // in after; returns the number of lines appended
+    private static int appendDifference(StringBuilder lines, int roomNumber, BookingIndex before, BookingIndex after) {
+        int events = 0;
+        for (DateRange range : before) {
+            if (!after.contains(range)) {
+                appendLine(lines, 'C', roomNumber, range);
+                events++;
+            }
+        }
+        for (DateRange range : after) {
+            if (!before.contains(range)) {
+                appendLine(lines, 'B', roomNumber, range);
+                events++;
+            }
+        }
+        return events;
+    }
+
+    private static void appendLine(StringBuilder lines, char type, int roomNumber, DateRange range) {
+        lines.append(type).append(' ').append(roomNumber).append(' ')
+                .append(range.getStartDay()).append(' ').append(range.getEndDay()).append('\n');
+    }
+
+    // applies one journal line; returns false for lines that are malformed or change nothing
+    private static boolean applyLine(RoomRegistry rooms, String line) {
+        String[] parts = line.trim().split(" ");
+        if (parts.length != 4) return false;
+        try {
+            int roomNumber = Integer.parseInt(parts[1]);
+            long startDay = Long.parseLong(parts[2]);
+            long endDay = Long.parseLong(parts[3]);
+            Room room = rooms.get(roomNumber);
+            if (room == null) return false;
+
+            DateRange existing = room.getBookedDates().find(startDay, endDay);
+            BookingIndex bookings = new BookingIndex(room.getBookedDates());
+            switch (parts[0]) {
+                case "B" -> {
+                    if (existing != null) return false;
+                    bookings.add(new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)),
+                            DateUtils.toDate(LocalDate.ofEpochDay(endDay))));
+                }
+                case "C" -> {
+                    if (existing == null) return false;
+                    bookings.remove(existing);
+                }
+                default -> {
+                    return false;
+                }
+            }
+            rooms.updateBookings(room, bookings);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
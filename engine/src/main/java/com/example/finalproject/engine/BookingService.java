@@ -0,0 +1,238 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+// thread-safe entry point for changing bookings, so several windows (or clerks) can book at once.
+// each change is an atomic check-then-insert under a per-room lock: the overlap check and the
+// write of the new booking index happen while no other change to the same room can run.
+// locks are striped by room number, so changes to different rooms mostly take different locks
+// and only meet briefly in RoomRegistry.updateBookings (the availability bitmap and version).
+// booking indexes are copy-on-write: a change builds a new index and swaps it in, so a search or
+// dialog holding the old index keeps reading a consistent set of bookings.
+// a batch (group bookings) takes the locks of every room it touches in ascending stripe order,
+// so two batches can't deadlock, and commits all of its rooms in one registry update.
+// an optional commit hook sees every change while its locks are still held, so anything it records
+// (BookingEngine journals the change) is in the same order as the changes to each room.
+public class BookingService {
+    public static final int DEFAULT_STRIPES = 64;
+
+    private final RoomRegistry rooms;
+    private final Object[] locks;
+    private final CommitHook hook;
+
+    // a change that was applied: the room's bookings before and after it
+    public record Change(Room room, BookingIndex before, BookingIndex after) {}
+
+    // one booking or cancellation of [from, to] (both inclusive) in a batch
+    public record Request(int roomNumber, LocalDate from, LocalDate to, boolean cancel) {
+        public Request {
+            if (from == null || to == null || to.isBefore(from)) {
+                throw new IllegalArgumentException("Invalid booking dates: " + from + " to " + to);
+            }
+        }
+
+        public static Request book(int roomNumber, LocalDate from, LocalDate to) {
+            return new Request(roomNumber, from, to, false);
+        }
+
+        public static Request cancel(int roomNumber, LocalDate from, LocalDate to) {
+            return new Request(roomNumber, from, to, true);
+        }
+    }
+
+    // outcome of a batch: either every request was applied (one change per room, no conflicts)
+    // or none was, and conflicts holds the requests that overlapped, had nothing to cancel or
+    // named an unknown room
+    public record BatchResult(List<Change> changes, List<Request> conflicts) {
+        public boolean isApplied() {
+            return conflicts.isEmpty();
+        }
+    }
+
+    // called with the changes of each commit (one per room) right after the registry is updated,
+    // while the rooms' locks are still held; it should only queue work, not wait for it
+    @FunctionalInterface
+    public interface CommitHook {
+        void committed(List<Change> changes);
+    }
+
+    public BookingService(RoomRegistry rooms) {
+        this(rooms, DEFAULT_STRIPES);
+    }
+
+    public BookingService(RoomRegistry rooms, int stripes) {
+        this(rooms, stripes, changes -> {});
+    }
+
+    public BookingService(RoomRegistry rooms, int stripes, CommitHook hook) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two: " + stripes);
+        }
+        this.rooms = rooms;
+        this.hook = hook;
+        this.locks = new Object[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    // books [from, to] (both inclusive) unless it overlaps an existing booking.
+    // returns the change, or null if the dates were already (partly) taken.
+    public Change book(int roomNumber, LocalDate from, LocalDate to) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid booking dates: " + from + " to " + to);
+        }
+        DateRange range = new DateRange(DateUtils.toDate(from), DateUtils.toDate(to));
+        long start = System.nanoTime();
+        synchronized (lockFor(roomNumber)) {
+            Room room = roomOf(roomNumber);
+            BookingIndex before = room.getBookedDates();
+            if (before.overlaps(range.getStartDay(), range.getEndDay())) return conflict();
+            BookingIndex after = new BookingIndex(before);
+            after.add(range);
+            return commit(room, before, after, start);
+        }
+    }
+
+    // cancels the booking with the same start and end day; returns null if there is none
+    public Change cancel(int roomNumber, DateRange range) {
+        long start = System.nanoTime();
+        synchronized (lockFor(roomNumber)) {
+            Room room = roomOf(roomNumber);
+            BookingIndex before = room.getBookedDates();
+            DateRange existing = before.find(range.getStartDay(), range.getEndDay());
+            if (existing == null) return null;
+            BookingIndex after = new BookingIndex(before);
+            after.remove(existing);
+            return commit(room, before, after, start);
+        }
+    }
+
+    // applies the edits made to a copy of a room's bookings (e.g. in RoomManagerDialog) on top of
+    // its current bookings: ranges removed from base are cancelled, ranges added to it are booked.
+    // either every edit is applied or none: returns null if an added range overlaps a booking made
+    // since base was read. cancellations of ranges that are already gone are skipped.
+    public Change apply(int roomNumber, BookingIndex base, BookingIndex edited) {
+        long start = System.nanoTime();
+        synchronized (lockFor(roomNumber)) {
+            Room room = roomOf(roomNumber);
+            BookingIndex before = room.getBookedDates();
+            BookingIndex after = new BookingIndex(before);
+            for (DateRange range : base) {
+                if (!edited.contains(range)) {
+                    DateRange existing = after.find(range.getStartDay(), range.getEndDay());
+                    if (existing != null) after.remove(existing);
+                }
+            }
+            for (DateRange range : edited) {
+                if (base.contains(range)) continue;
+                if (after.overlaps(range.getStartDay(), range.getEndDay())) return conflict();
+                after.add(range);
+            }
+            return commit(room, before, after, start);
+        }
+    }
+
+    // applies many bookings and cancellations as one all-or-nothing change. every request is
+    // checked in a single pass against its room's current bookings and the requests before it in
+    // the batch (cancellations of a room go first, so a batch can move a booking); if any request
+    // conflicts nothing is applied. requests for a room that isn't registered (e.g. one deleted
+    // after the dialog listed it) are conflicts too.
+    public BatchResult batch(List<Request> requests) {
+        long start = System.nanoTime();
+        Map<Integer, List<Request>> byRoom = new TreeMap<>();
+        TreeSet<Integer> stripes = new TreeSet<>();
+        for (Request request : requests) {
+            byRoom.computeIfAbsent(request.roomNumber(), number -> new ArrayList<>()).add(request);
+            stripes.add(stripeOf(request.roomNumber()));
+        }
+        int[] order = stripes.stream().mapToInt(Integer::intValue).toArray();
+        return withLocks(order, 0, () -> {
+            Map<Room, BookingIndex> updated = new LinkedHashMap<>();
+            List<Change> changes = new ArrayList<>();
+            List<Request> conflicts = new ArrayList<>();
+            for (Map.Entry<Integer, List<Request>> entry : byRoom.entrySet()) {
+                Room room = rooms.get(entry.getKey());
+                if (room == null) {
+                    conflicts.addAll(entry.getValue());
+                    continue;
+                }
+                BookingIndex before = room.getBookedDates();
+                BookingIndex after = new BookingIndex(before);
+                for (Request request : entry.getValue()) {
+                    if (!request.cancel()) continue;
+                    DateRange existing = after.find(request.from().toEpochDay(), request.to().toEpochDay());
+                    if (existing == null) {
+                        conflicts.add(request);
+                    } else {
+                        after.remove(existing);
+                    }
+                }
+                for (Request request : entry.getValue()) {
+                    if (request.cancel()) continue;
+                    if (after.overlaps(request.from().toEpochDay(), request.to().toEpochDay())) {
+                        conflicts.add(request);
+                    } else {
+                        after.add(new DateRange(DateUtils.toDate(request.from()), DateUtils.toDate(request.to())));
+                    }
+                }
+                updated.put(room, after);
+                changes.add(new Change(room, before, after));
+            }
+
+            if (!conflicts.isEmpty()) {
+                Metrics.BOOKING_CONFLICTS.add(conflicts.size());
+                return new BatchResult(List.of(), conflicts);
+            }
+            rooms.updateBookings(updated);
+            hook.committed(changes);
+            Metrics.BOOKING_CHANGES.add(changes.size()); // one change per room, as in commit
+            Metrics.BOOKING_LATENCY.recordSince(start);
+            return new BatchResult(changes, List.of());
+        });
+    }
+
+    private Change commit(Room room, BookingIndex before, BookingIndex after, long startNanos) {
+        rooms.updateBookings(room, after);
+        Change change = new Change(room, before, after);
+        hook.committed(List.of(change));
+        Metrics.BOOKING_CHANGES.increment();
+        Metrics.BOOKING_LATENCY.recordSince(startNanos);
+        return change;
+    }
+
+    private static Change conflict() {
+        Metrics.BOOKING_CONFLICTS.increment();
+        return null;
+    }
+
+    private Room roomOf(int roomNumber) {
+        Room room = rooms.get(roomNumber);
+        if (room == null) throw new IllegalArgumentException("Room " + roomNumber + " is not registered");
+        return room;
+    }
+
+    // runs the action holding the locks of the given stripes, taken in the order given
+    private <T> T withLocks(int[] stripes, int from, Supplier<T> action) {
+        if (from == stripes.length) return action.get();
+        synchronized (locks[stripes[from]]) {
+            return withLocks(stripes, from + 1, action);
+        }
+    }
+
+    private Object lockFor(int roomNumber) {
+        return locks[stripeOf(roomNumber)];
+    }
+
+    private int stripeOf(int roomNumber) {
+        int h = roomNumber * 0x9E3779B9; // same spreading as the registry's table
+        return (h ^ (h >>> 16)) & (locks.length - 1);
+    }
+}
@@ -1,4 +1,4 @@
-package com.example.finalproject;
+package com.example.finalproject.engine;
 
 public final class Constants {
     private Constants() {} // Prevent instantiation
@@ -13,5 +13,11 @@ public final class Constants {
     public static final String ERROR_DATE_BOTH_REQUIRED = "Please select both start and end dates.";
     public static final String ERROR_START_AFTER_END = "Start date must be before end date.";
     public static final String ERROR_EXISTING_BOOKINGS_OVERLAP = "Selected dates overlap existing bookings!";
+    public static final String ERROR_BOOKING_CONFLICT = "These dates were booked in another window. Nothing was saved.";
+    public static final String ERROR_GROUP_CONFLICT = "Nothing was saved. These rooms are already booked, have no such booking to cancel or no longer exist:";
+    public static final String ERROR_NOT_ENOUGH_ROOMS = "Not enough free rooms of this type for these dates. Rooms found:";
+    public static final String ERROR_ROOM_COUNT = "Enter how many rooms to find, from 1 to 999.";
+    public static final String ERROR_ROOM_LIST = "Enter existing room numbers or ranges, e.g. 101-110, 115.";
+    public static final String ERROR_SAVE_FAILED = "Bookings could not be saved to disk:";
     public static final String ERROR_FILTERING_DISABLED = "(Fix the error to enable filtering)";
 }
@@ -0,0 +1,261 @@
+package com.example.finalproject.engine;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// custom singly linked list implementation with filter, iterable and stream support
+public class CustomLinkedList<T> implements Iterable<T> {
+    private static final int BATCH_UNIT = 1 << 10; // spliterator batch growth, as in java.util.LinkedList
+    private static final int MAX_BATCH = 1 << 25;
+
+    private Node<T> head;
+    private Node<T> tail; // last node, so appends don't walk the list
+    private int size; // cached element count, kept in sync by add/remove
+
+    // internal node class to store data and next reference
+    private static class Node<E> {
+        E data;
+        Node<E> next;
+
+        public Node(E data) {
+            this.data = data;
+            this.next = null;
+        }
+    }
+
+    public CustomLinkedList() {
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    // copy constructor: creates a deep copy of another CustomLinkedList
+    public CustomLinkedList(CustomLinkedList<T> other) {
+        if (other == null) return;
+        Node<T> current = other.head;
+        while (current != null) {
+            this.add(current.data);
+            current = current.next;
+        }
+    }
+
+    // adds a new element to the end of the list in O(1) using the tail reference
+    public void add(T data) {
+        Node<T> newNode = new Node<>(data);
+        if (head == null) {
+            head = newNode;
+        } else {
+            tail.next = newNode;
+        }
+        tail = newNode;
+        size++;
+    }
+
+    // returns the element at the specified index
+    public T get(int index) {
+        int count = 0;
+        Node<T> current = head;
+        while (current != null) {
+            if (count == index) return current.data;
+            current = current.next;
+            count++;
+        }
+        throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    // sets the value at the specified index
+    public void set(int index, T data) {
+        int count = 0;
+        Node<T> current = head;
+        while (current != null) {
+            if (count == index) {
+                current.data = data;
+                return;
+            }
+            current = current.next;
+            count++;
+        }
+        throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    // removes the first occurrence of the target value from the list
+    public boolean remove(T target) {
+        if (head == null || target == null) return false;
+
+        if (head.data.equals(target)) {
+            head = head.next;
+            if (head == null) tail = null;
+            size--;
+            return true;
+        }
+
+        Node<T> current = head;
+        while (current.next != null) {
+            if (current.next.data.equals(target)) {
+                if (current.next == tail) tail = current;
+                current.next = current.next.next;
+                size--;
+                return true;
+            }
+            current = current.next;
+        }
+
+        return false;
+    }
+
+    // appends every element of another list, in order
+    public void addAll(CustomLinkedList<? extends T> other) {
+        Node<? extends T> current = other.head;
+        while (current != null) {
+            add(current.data);
+            current = current.next;
+        }
+    }
+
+    // returns the number of elements in the list
+    public int size() {
+        return size;
+    }
+
+    // converts the list to a standard Java List
+    public List<T> toList() {
+        List<T> result = new ArrayList<>(size);
+        Node<T> current = head;
+        while (current != null) {
+            result.add(current.data);
+            current = current.next;
+        }
+        return result;
+    }
+
+    // returns a new CustomLinkedList containing only elements that match the given condition
+    public CustomLinkedList<T> filter(Predicate<T> condition) {
+        CustomLinkedList<T> result = new CustomLinkedList<>();
+        Node<T> current = head;
+        while (current != null) {
+            if (condition.test(current.data)) {
+                result.add(current.data);
+            }
+            current = current.next;
+        }
+        return result;
+    }
+
+    // runs the action on each element in order, walking the nodes directly
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        Node<T> current = head;
+        while (current != null) {
+            action.accept(current.data);
+            current = current.next;
+        }
+    }
+
+    // a lazy stream over the elements, in list order
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // collects a stream into a CustomLinkedList, keeping encounter order
+    public static <T> Collector<T, ?, CustomLinkedList<T>> collector() {
+        return Collector.of(CustomLinkedList::new, CustomLinkedList::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    // ORDERED and SIZED (the size is cached). a linked list can't be split in the middle, so
+    // trySplit hands off growing batches copied into arrays, like java.util.LinkedList does.
+    // the list must not be changed while a stream over it runs.
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ListSpliterator<>(head, size);
+    }
+
+    // enables foreach-style iteration over the list
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private Node<T> current = head;
+
+            @Override
+            public boolean hasNext() {
+                return current != null;
+            }
+
+            @Override
+            public T next() {
+                T data = current.data;
+                current = current.next;
+                return data;
+            }
+        };
+    }
+
+    private static final class ListSpliterator<E> implements Spliterator<E> {
+        private Node<E> current;
+        private int remaining;
+        private int batch; // size of the last batch handed off
+
+        ListSpliterator(Node<E> head, int size) {
+            this.current = head;
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (remaining <= 0 || current == null) return false;
+            action.accept(current.data);
+            current = current.next;
+            remaining--;
+            return true;
+        }
+
+        // bounded by remaining, not by the end of the chain, so it stops where this part of the list ends
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            while (remaining > 0 && current != null) {
+                action.accept(current.data);
+                current = current.next;
+                remaining--;
+            }
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            if (current == null || remaining <= 1) return null;
+            int n = Math.min(Math.min(batch + BATCH_UNIT, MAX_BATCH), remaining);
+            Object[] prefix = new Object[n];
+            int count = 0;
+            while (count < n && current != null) {
+                prefix[count++] = current.data;
+                current = current.next;
+            }
+            batch = count;
+            remaining -= count;
+            return Spliterators.spliterator(prefix, 0, count, Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+}
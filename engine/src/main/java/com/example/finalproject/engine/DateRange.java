@@ -0,0 +1,80 @@
+package com.example.finalproject.engine;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.Date;
+
+// represents a date range with a start and end date.
+// the dates are also kept as epoch days (computed once when set) so overlap checks
+// are plain long comparisons with no conversions or allocations.
+public class DateRange {
+    private Date startDate;
+    private Date endDate;
+    private long startDay;
+    private long endDay;
+
+    // constructors
+    public DateRange() {
+    }
+
+    public DateRange(Date startDate, Date endDate) {
+        setStartDate(startDate);
+        setEndDate(endDate);
+    }
+
+    // getters/setters (required for JSON serialization)
+    public Date getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(Date startDate) {
+        this.startDate = startDate;
+        this.startDay = startDate == null ? 0 : DateUtils.toEpochDay(startDate);
+    }
+
+    public Date getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(Date endDate) {
+        this.endDate = endDate;
+        this.endDay = endDate == null ? 0 : DateUtils.toEpochDay(endDate);
+    }
+
+    // excluded from JSON, start date as a local epoch day
+    @JsonIgnore
+    public long getStartDay() {
+        return startDay;
+    }
+
+    // excluded from JSON, end date (inclusive) as a local epoch day
+    @JsonIgnore
+    public long getEndDay() {
+        return endDay;
+    }
+
+    // number of booked days, both ends included (e.g. June 10–12 = 3 days)
+    @JsonIgnore
+    public long getDayCount() {
+        return endDay - startDay + 1;
+    }
+
+    // returns the date range in a readable format (e.g. "Jan 01, 2025 - Jan 05, 2025").
+    @Override
+    public String toString() {
+        SimpleDateFormat sdf = new SimpleDateFormat("MMM dd, yyyy");
+        return sdf.format(startDate) + " - " + sdf.format(endDate);
+    }
+
+    // checks if the given date range overlaps with this date range.
+    public boolean overlaps(LocalDate from, LocalDate to) {
+        return overlaps(from.toEpochDay(), to.toEpochDay());
+    }
+
+    // epoch-day version of overlaps (both ends inclusive)
+    public boolean overlaps(long fromDay, long toDay) {
+        return toDay >= startDay && fromDay <= endDay;
+    }
+}
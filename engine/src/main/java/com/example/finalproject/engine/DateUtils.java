@@ -0,0 +1,24 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+
+// utility class for date conversions
+public class DateUtils {
+
+    // converts a java.util.Date to java.time.LocalDate using the system default time zone.
+    public static LocalDate toLocal(Date date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    // converts a java.util.Date to a local epoch day (days since 1970-01-01).
+    public static long toEpochDay(Date date) {
+        return toLocal(date).toEpochDay();
+    }
+
+    // converts a LocalDate to a java.util.Date at the start of that day in the system default time zone.
+    public static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.finalproject.engine;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+// utility class for crash-safe file replacement
+public final class FileUtils {
+    private FileUtils() {} // Prevent instantiation
+
+    // moves a fully written temporary file over the target so that a crash or power loss at any
+    // point leaves either the old file or the complete new one: the temp file's data is forced to
+    // disk before the rename, and the directory entry is forced after it
+    public static void replaceDurably(Path temp, Path target) throws IOException {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        forceDirectory(target.toAbsolutePath().getParent());
+    }
+
+    // makes a rename in the directory durable; not every platform can open a directory
+    // (Windows can't), and there the rename is as durable as the file system makes it
+    private static void forceDirectory(Path directory) {
+        if (directory == null) return;
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // nothing more can be done here
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.finalproject.engine;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// process-wide runtime metrics: latency histograms and counters for searches, bookings and saves.
+// the hot paths record into static Histograms and LongAdders (no locks, no allocation); reading
+// them is for monitoring only. everything is published as attributes of one JMX MBean
+// (com.example.finalproject:type=Metrics, e.g. in JConsole) and can be appended to a local log
+// file on a fixed period. latencies are recorded in nanoseconds and reported in microseconds.
+public final class Metrics {
+    public static final String OBJECT_NAME = "com.example.finalproject:type=Metrics";
+
+    // declared before the metrics below, which register themselves here as they are created
+    private static final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private static final Map<String, Boolean> latencies = new LinkedHashMap<>();
+    private static final Map<String, LongAdder> counters = new LinkedHashMap<>();
+    private static final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService logger;
+    private static Path logFile;
+
+    // search phases: building the query, waiting for the registry lock, the sweep itself,
+    // the whole search as the caller sees it (cache included), and drawing the results (UI)
+    public static final Histogram SEARCH_COMPILE = latency("search.compile");
+    public static final Histogram SEARCH_LOCK_WAIT = latency("search.lockWait");
+    public static final Histogram SEARCH_EXECUTE = latency("search.execute");
+    public static final Histogram SEARCH_TOTAL = latency("search.total");
+    public static final Histogram SEARCH_RENDER = latency("search.render");
+    public static final Histogram SEARCH_RESULTS = histogram("search.results"); // rooms found per search
+
+    public static final Histogram ALLOCATION_LATENCY = latency("allocation.latency"); // best-fit room picks, lock included
+    public static final Histogram BOOKING_LATENCY = latency("booking.latency"); // check + update, lock included
+    public static final LongAdder BOOKING_CHANGES = counter("booking.changes");
+    public static final LongAdder BOOKING_CONFLICTS = counter("booking.conflicts"); // rejected as overlapping
+
+    public static final Histogram PERSIST_DURATION = latency("persist.duration"); // one full write or journal sync
+    public static final LongAdder PERSIST_BYTES = counter("persist.bytes");
+    public static final LongAdder PERSIST_FAILURES = counter("persist.failures");
+
+    private Metrics() {} // Prevent instantiation
+
+    // exposes a value owned elsewhere (e.g. the UI's image cache hits) under the given name
+    public static void registerGauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    // every metric as name -> value, histograms expanded into count/mean/p50/p90/p99/max
+    public static Map<String, Number> snapshot() {
+        Map<String, Number> values = new LinkedHashMap<>();
+        histograms.forEach((name, histogram) -> {
+            double scale = latencies.get(name) ? 1000.0 : 1.0; // ns -> us
+            String unit = latencies.get(name) ? ".us" : "";
+            values.put(name + ".count", histogram.getCount());
+            values.put(name + ".mean" + unit, Math.round(histogram.getMean() / scale * 10) / 10.0);
+            values.put(name + ".p50" + unit, Math.round(histogram.getPercentile(50) / scale));
+            values.put(name + ".p90" + unit, Math.round(histogram.getPercentile(90) / scale));
+            values.put(name + ".p99" + unit, Math.round(histogram.getPercentile(99) / scale));
+            values.put(name + ".max" + unit, Math.round(histogram.getMax() / scale));
+        });
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        gauges.forEach((name, gauge) -> values.put(name, gauge.getAsLong()));
+        return values;
+    }
+
+    // registers the metrics MBean with the platform MBean server; does nothing if already registered
+    public static synchronized void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) server.registerMBean(new MetricsMBean(), name);
+        } catch (JMException e) {
+            // monitoring is optional; the app runs the same without it
+        }
+    }
+
+    // appends a snapshot to the file every period, on a daemon thread; replaces any earlier schedule
+    public static synchronized void startLogging(Path file, Duration period) {
+        stopLogging();
+        logFile = file;
+        logger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = period.toMillis();
+        logger.scheduleAtFixedRate(() -> dump(file), millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // stops periodic logging after writing one last snapshot
+    public static synchronized void stopLogging() {
+        if (logger == null) return;
+        logger.shutdownNow();
+        logger = null;
+        dump(logFile);
+    }
+
+    // appends one line per metric, prefixed with the current time
+    public static void dump(Path file) {
+        String time = LocalDateTime.now().withNano(0).toString();
+        StringBuilder lines = new StringBuilder();
+        snapshot().forEach((name, value) -> lines.append(time).append(' ').append(name).append('=').append(value).append('\n'));
+        try {
+            Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // a missed dump is not worth interrupting anything for; the next period tries again
+        }
+    }
+
+    // clears every histogram and counter (gauges belong to their owners)
+    public static void reset() {
+        histograms.values().forEach(Histogram::reset);
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    private static Histogram latency(String name) {
+        Histogram histogram = histogram(name);
+        latencies.put(name, true);
+        return histogram;
+    }
+
+    private static Histogram histogram(String name) {
+        Histogram histogram = new Histogram();
+        histograms.put(name, histogram);
+        latencies.put(name, false);
+        return histogram;
+    }
+
+    private static LongAdder counter(String name) {
+        LongAdder counter = new LongAdder();
+        counters.put(name, counter);
+        return counter;
+    }
+
+    // read-only MBean whose attributes are the entries of snapshot()
+    private static final class MetricsMBean implements DynamicMBean {
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            Number value = snapshot().get(attribute);
+            if (value == null) throw new AttributeNotFoundException(attribute);
+            return value;
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            Map<String, Number> values = snapshot();
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                Number value = values.get(attribute);
+                if (value != null) list.add(new Attribute(attribute, value));
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) {
+            throw new UnsupportedOperationException("Metrics are read-only");
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException("No operations: " + actionName);
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            List<MBeanAttributeInfo> attributes = new ArrayList<>();
+            snapshot().forEach((name, value) -> attributes.add(new MBeanAttributeInfo(name,
+                    value.getClass().getName(), name, true, false, false)));
+            return new MBeanInfo(Metrics.class.getName(), "Kelv-Inn search, booking and persistence metrics",
+                    attributes.toArray(MBeanAttributeInfo[]::new), null, null, null);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.finalproject.engine;
+
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+public class Room {
+    private static final double TAX_RATE = 0.2; // 20% tax rate
+    private String roomType;
+    private int roomNumber;
+    private String[] includes;
+    private int price;
+    private String imageName;
+    private BookingIndex bookedDates;
+    // while the room is registered, its number, price, type, image and bookings live in the
+    // registry's RoomStore and the fields above are unused. its setters then go through the registry,
+    // which keeps its number table, attribute index, availability bitmap and version in step.
+    // a room is in one registry at a time: registering a room that is already registered fails.
+    // the getters of a registered room read under the registry lock, like every other access to its store;
+    // an unregistered room is a plain object, owned by the code building it.
+    private volatile RoomRegistry registry;
+    private RoomStore store;
+    private int ordinal;
+
+    public Room() {
+
+    }
+
+    // constructor to initialize all room fields and prepare empty booking list
+    public Room(String roomType, int roomNumber, String[] includes, int price, String imageName) {
+        this.roomType = roomType;
+        this.roomNumber = roomNumber;
+        this.includes = includes;
+        this.price = price;
+        this.imageName = imageName;
+        this.bookedDates = new BookingIndex();
+    }
+
+    // makes this room a view of a registry's store slot, moving its current values into the store
+    synchronized void attach(RoomRegistry registry, RoomStore store, int ordinal) {
+        if (this.registry != null) throw new IllegalStateException("Room " + getRoomNumber() + " is already registered");
+        store.set(ordinal, roomNumber, price, roomType, imageName);
+        store.setBookings(ordinal, bookedDates);
+        this.registry = registry;
+        this.store = store;
+        this.ordinal = ordinal;
+    }
+
+    // copies the values back out of the store and stops using it (e.g. the room was replaced)
+    synchronized void detach() {
+        if (store == null) return;
+        roomNumber = store.roomNumber(ordinal);
+        price = store.price(ordinal);
+        roomType = store.roomType(ordinal);
+        imageName = store.imageName(ordinal);
+        bookedDates = store.bookings(ordinal);
+        registry = null;
+        store = null;
+    }
+
+    // true while the room is registered in the given registry
+    boolean isRegisteredIn(RoomRegistry registry) {
+        return this.registry == registry;
+    }
+
+    boolean isRegistered() {
+        return registry != null;
+    }
+
+    // the room's slot in its registry's store (only meaningful while registered)
+    int ordinal() {
+        return ordinal;
+    }
+
+    // runs a getter under the monitor guarding the room's values: its registry while registered,
+    // otherwise the room (attach and detach hold both). the room can be registered or dropped while
+    // the reader waits for the monitor, so the owner is checked again once it is held
+    private <T> T read(Supplier<T> getter) {
+        while (true) {
+            Object lock = lock();
+            synchronized (lock) {
+                if (lock == lock()) return getter.get();
+            }
+        }
+    }
+
+    private int readInt(IntSupplier getter) {
+        while (true) {
+            Object lock = lock();
+            synchronized (lock) {
+                if (lock == lock()) return getter.getAsInt();
+            }
+        }
+    }
+
+    private Object lock() {
+        RoomRegistry owner = registry;
+        return owner != null ? owner : this;
+    }
+
+    // getters/setters
+    public BookingIndex getBookedDates() {
+        return read(() -> store != null ? store.bookings(ordinal) : bookedDates);
+    }
+
+    public void setBookedDates(BookingIndex bookedDates) {
+        if (registry != null) {
+            registry.updateBookings(this, bookedDates);
+        } else {
+            this.bookedDates = bookedDates;
+        }
+    }
+
+    // a registered room's booking index may be shared with searches and dialogs (copy-on-write),
+    // so the booking is added to a copy that then replaces it
+    public void addBookedDate(DateRange dateRange) {
+        if (registry != null) {
+            BookingIndex bookings = new BookingIndex(getBookedDates());
+            bookings.add(dateRange);
+            registry.updateBookings(this, bookings);
+        } else {
+            bookedDates.add(dateRange);
+        }
+    }
+
+    public String getImageName() {
+        return read(() -> store != null ? store.imageName(ordinal) : imageName);
+    }
+
+    public void setImageName(String imageName) {
+        if (registry != null) {
+            registry.changeColumns(this, () -> store.setImageName(ordinal, imageName));
+        } else {
+            this.imageName = imageName;
+        }
+    }
+
+    public String getRoomType() {
+        return read(() -> store != null ? store.roomType(ordinal) : roomType);
+    }
+
+    public int getRoomNumber() {
+        return readInt(() -> store != null ? store.roomNumber(ordinal) : roomNumber);
+    }
+
+    public String[] getIncludes() {
+        return read(() -> includes);
+    }
+
+    public int getPrice() {
+        return readInt(() -> store != null ? store.price(ordinal) : price);
+    }
+
+    public void setRoomType(String roomType) {
+        if (registry != null) {
+            registry.changeAttributes(this, () -> store.setRoomType(ordinal, roomType));
+        } else {
+            this.roomType = roomType;
+        }
+    }
+
+    public void setRoomNumber(int roomNumber) {
+        if (registry != null) {
+            registry.changeNumber(this, roomNumber);
+        } else {
+            this.roomNumber = roomNumber;
+        }
+    }
+
+    public void setIncludes(String[] includes) {
+        if (registry != null) {
+            registry.changeAttributes(this, () -> this.includes = includes);
+        } else {
+            this.includes = includes;
+        }
+    }
+
+    public void setPrice(int price) {
+        if (registry != null) {
+            registry.changeColumns(this, () -> store.setPrice(ordinal, price));
+        } else {
+            this.price = price;
+        }
+    }
+
+    // excludes this from JSON, and returns price with 20% tax
+    @JsonIgnore
+    public double getPriceWithTax() {
+        return Math.round(getPrice() * (1 + TAX_RATE));
+    }
+
+    // excludes from JSON, indicates availability based on bookings
+    @JsonIgnore
+    public boolean isAvailable() {
+        return getBookedDates().isEmpty();
+    }
+
+    // deserializes the JSON array straight into the internal booking index
+    @JsonProperty("bookedDates")
+    @JsonDeserialize(using = BookingIndexDeserializer.class)
+    public void setBookedDatesFromJson(BookingIndex dates) {
+        setBookedDates(dates);
+    }
+
+    // serializes the internal booking index for JSON, streamed from the index (sorted by start date)
+    @JsonProperty("bookedDates")
+    @JsonSerialize(using = BookingIndexSerializer.class)
+    public BookingIndex getBookedDatesForJson() {
+        return getBookedDates();
+    }
+
+    // returns a string representation of the room's details.
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Room Type: ").append(getRoomType()).append("\n");
+        sb.append("Room Number: ").append(getRoomNumber()).append("\n");
+        sb.append("Includes: ");
+        if (includes != null && includes.length > 0) {
+            for (String item : includes) {
+                sb.append(item).append(", ");
+            }
+            sb.setLength(sb.length() - 2);
+        } else {
+            sb.append("None");
+        }
+        sb.append("\n");
+        sb.append("Price: $").append(getPrice()).append("\n");
+        sb.append("Price with Tax: $").append(String.format("%.2f", getPriceWithTax())).append("\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+// answers "allocate N rooms of type T for [from, to]" with a best-fit policy, so the front desk
+// doesn't have to pick rooms off the "Book" results by hand.
+// a stay placed in a free gap leaves the days between the previous booking and its first night and
+// between its last night and the next booking; the rooms where those leftovers are smallest are
+// chosen first, so stays fill their gaps exactly where they can and long free runs stay whole for
+// long stays. the free rooms come from the same availability bitmap as the "Book" search, and
+// the gap around the stay is measured for all of them in one sweep over the bitmap's day bitsets.
+// the leftovers are bounded by the horizon, so the best rooms are picked by counting, not sorting.
+public class RoomAllocator {
+    // leftover days counted for a room that is free up to the edge of what is known
+    private static final int MAX_LEFTOVER = 2 * AvailabilityIndex.DEFAULT_HORIZON_DAYS;
+
+    // returns up to count rooms of the given type (case-insensitive; null or "Any" for every type)
+    // that are free for [from, to], tightest fit first; fewer if not enough are free.
+    // safe to call off the JavaFX thread: the registry is locked while it runs.
+    public static List<Room> allocate(RoomRegistry rooms, String roomType, int count, LocalDate from, LocalDate to) {
+        if (count <= 0) throw new IllegalArgumentException("Room count must be positive: " + count);
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid booking dates: " + from + " to " + to);
+        }
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        synchronized (rooms) {
+            AvailabilityIndex availability = rooms.getAvailability();
+            long[] candidates = availability.freeRooms(fromDay, toDay);
+            if (roomType != null && !roomType.equalsIgnoreCase(Constants.ACTION_ANY)) {
+                long[] ofType = rooms.getAttributes().roomsOfAnyType(List.of(roomType)).toLongArray();
+                for (int w = 0; w < candidates.length; w++) {
+                    candidates[w] &= w < ofType.length ? ofType[w] : 0;
+                }
+            }
+
+            int[] leftover = fromDay >= availability.getFirstDay() && toDay <= availability.getLastDay()
+                    ? leftoverFromBitmap(availability, candidates, fromDay, toDay)
+                    : leftoverFromBookings(rooms, availability, candidates, fromDay, toDay);
+            return pick(rooms, candidates, leftover, count);
+        }
+    }
+
+    // free days left on both sides of the stay, from the bitmap: one sweep back, one forward
+    private static int[] leftoverFromBitmap(AvailabilityIndex availability, long[] candidates, long fromDay, long toDay) {
+        int[] leftover = availability.freeDaysFrom(candidates, fromDay - 1, -1);
+        int[] after = availability.freeDaysFrom(candidates, toDay + 1, 1);
+        for (int i = 0; i < leftover.length; i++) {
+            leftover[i] += after[i];
+        }
+        return leftover;
+    }
+
+    // the same from each room's bookings, for stays reaching past the bitmap's horizon. the gaps are
+    // cut at the same edges as the bitmap's (today and the horizon's last day), so both paths rank a
+    // room alike; bookings are read through the registry, so rooms still in a snapshot stay there
+    private static int[] leftoverFromBookings(RoomRegistry rooms, AvailabilityIndex availability, long[] candidates,
+                                              long fromDay, long toDay) {
+        long today = availability.getFirstDay();
+        long lastDay = availability.getLastDay();
+        int[] leftover = new int[rooms.size()];
+        long[] neighbours = new long[2]; // end of the last booking before the stay, start of the first after it
+        forEachSet(candidates, ordinal -> {
+            neighbours[0] = Long.MIN_VALUE;
+            neighbours[1] = Long.MAX_VALUE;
+            rooms.forEachBooking(ordinal, (start, end) -> {
+                if (start < fromDay) neighbours[0] = Math.max(neighbours[0], end);
+                if (start > toDay) neighbours[1] = Math.min(neighbours[1], start);
+            });
+            long before = Math.max(0, fromDay - Math.max(neighbours[0] + 1, today));
+            long after = Math.max(0, Math.min(neighbours[1] - 1, lastDay) - toDay);
+            leftover[ordinal] = (int) Math.min(before + after, MAX_LEFTOVER);
+        });
+        return leftover;
+    }
+
+    // the count candidates with the least leftover (ties in inventory order), best first.
+    // counts the candidates per leftover to find the cut-off, then collects those below it.
+    private static List<Room> pick(RoomRegistry rooms, long[] candidates, int[] leftover, int count) {
+        int[] perLeftover = new int[MAX_LEFTOVER + 1];
+        int[] total = new int[1];
+        forEachSet(candidates, ordinal -> {
+            perLeftover[Math.min(leftover[ordinal], MAX_LEFTOVER)]++;
+            total[0]++;
+        });
+        int wanted = Math.min(count, total[0]);
+        if (wanted == 0) return new ArrayList<>();
+
+        int cutoff = 0; // every candidate below it is taken, and some of those at it
+        int below = 0;
+        while (below + perLeftover[cutoff] < wanted) below += perLeftover[cutoff++];
+        int[] atCutoff = {wanted - below};
+        int limit = cutoff;
+
+        long[] picked = new long[wanted]; // leftover in the high bits, ordinal in the low ones
+        int[] size = new int[1];
+        forEachSet(candidates, ordinal -> {
+            int fit = Math.min(leftover[ordinal], MAX_LEFTOVER);
+            if (fit < limit || (fit == limit && atCutoff[0]-- > 0)) {
+                picked[size[0]++] = ((long) fit << 32) | ordinal;
+            }
+        });
+        Arrays.sort(picked);
+
+        List<Room> result = new ArrayList<>(wanted);
+        for (long key : picked) {
+            result.add(rooms.getAt((int) key));
+        }
+        return result;
+    }
+
+    private static void forEachSet(long[] bits, IntConsumer action) {
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                action.accept((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+}
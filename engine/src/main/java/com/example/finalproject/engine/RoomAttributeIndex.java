@@ -0,0 +1,140 @@
+package com.example.finalproject.engine;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// secondary indexes over the registry: room type -> rooms and amenity -> rooms.
+// values are interned case-insensitively to small ids, each with a bitset of room ordinals,
+// so type and amenity filters become bitset unions/intersections instead of string compares.
+public class RoomAttributeIndex {
+    private final Dictionary types = new Dictionary();
+    private final Dictionary amenities = new Dictionary();
+
+    // indexes the room stored at the given registry ordinal
+    public void addRoom(int ordinal, Room room) {
+        addRoom(ordinal, room.getRoomType(), room.getIncludes());
+    }
+
+    // indexes a room from its type and amenities alone (e.g. read from a snapshot without building the Room)
+    public void addRoom(int ordinal, String roomType, String[] includes) {
+        if (roomType != null) types.add(roomType, ordinal);
+        if (includes != null) {
+            for (String amenity : includes) {
+                if (amenity != null) amenities.add(amenity, ordinal);
+            }
+        }
+    }
+
+    // removes a room's entries (used when the room at an ordinal is replaced)
+    public void removeRoom(int ordinal, Room room) {
+        if (room.getRoomType() != null) types.remove(room.getRoomType(), ordinal);
+        if (room.getIncludes() != null) {
+            for (String amenity : room.getIncludes()) {
+                if (amenity != null) amenities.remove(amenity, ordinal);
+            }
+        }
+    }
+
+    // returns the interned id of a room type (case-insensitive), or -1 if no room has it
+    public int typeId(String type) {
+        return types.idOf(type);
+    }
+
+    // returns the interned id of an amenity (case-insensitive), or -1 if no room has it
+    public int amenityId(String amenity) {
+        return amenities.idOf(amenity);
+    }
+
+    public boolean hasType(int ordinal, String type) {
+        return types.contains(type, ordinal);
+    }
+
+    public boolean hasAmenity(int ordinal, String amenity) {
+        return amenities.contains(amenity, ordinal);
+    }
+
+    // rooms whose type is any of the given types (a new bitset the caller may modify)
+    public BitSet roomsOfAnyType(Collection<String> roomTypes) {
+        BitSet result = new BitSet();
+        for (String type : roomTypes) {
+            BitSet rooms = types.roomsWith(type);
+            if (rooms != null) result.or(rooms);
+        }
+        return result;
+    }
+
+    // rooms that include every one of the given amenities (a new bitset the caller may modify);
+    // e.g. ["Jacuzzi", "Kitchen"] is "Jacuzzi AND Kitchen"
+    public BitSet roomsWithAllAmenities(Collection<String> required) {
+        BitSet result = null;
+        for (String amenity : required) {
+            BitSet rooms = amenities.roomsWith(amenity);
+            if (rooms == null) return new BitSet(); // nobody has it
+            if (result == null) {
+                result = (BitSet) rooms.clone();
+            } else {
+                result.and(rooms);
+            }
+        }
+        return result != null ? result : new BitSet();
+    }
+
+    // all known room types, in first-seen order
+    public List<String> getTypeNames() {
+        return new ArrayList<>(types.names);
+    }
+
+    // all known amenities, in first-seen order
+    public List<String> getAmenityNames() {
+        return new ArrayList<>(amenities.names);
+    }
+
+    // interns strings case-insensitively and keeps a bitset of room ordinals per value
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private final List<BitSet> rooms = new ArrayList<>();
+
+        void add(String value, int ordinal) {
+            String key = key(value);
+            Integer id = ids.get(key);
+            if (id == null) {
+                id = names.size();
+                ids.put(key, id);
+                names.add(value);
+                rooms.add(new BitSet());
+            }
+            rooms.get(id).set(ordinal);
+        }
+
+        void remove(String value, int ordinal) {
+            BitSet set = roomsWith(value);
+            if (set != null) set.clear(ordinal);
+        }
+
+        int idOf(String value) {
+            if (value == null) return -1;
+            Integer id = ids.get(key(value));
+            return id == null ? -1 : id;
+        }
+
+        boolean contains(String value, int ordinal) {
+            BitSet set = roomsWith(value);
+            return set != null && set.get(ordinal);
+        }
+
+        BitSet roomsWith(String value) {
+            int id = idOf(value);
+            return id < 0 ? null : rooms.get(id);
+        }
+
+        private static String key(String value) {
+            return value.toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.finalproject.engine;
+
+// applies filtering logic to a list of rooms based on user-selected criteria
+public class RoomFilter {
+    // Applies all selected filters to the given rooms in a single fused pass (see RoomQuery).
+    // Returns a lightweight result view, or null if the room number input is invalid.
+    // Safe to call off the JavaFX thread: the registry is locked while the query runs.
+    // Each phase's latency and the result count are recorded in Metrics.
+    public static RoomQueryResult applyFilters(RoomRegistry rooms, RoomFilterCriteria criteria) {
+        long start = System.nanoTime();
+        RoomQuery query = RoomQuery.compile(criteria);
+        Metrics.SEARCH_COMPILE.recordSince(start);
+        if (query == null) return null;
+        long waiting = System.nanoTime();
+        synchronized (rooms) {
+            long running = System.nanoTime();
+            Metrics.SEARCH_LOCK_WAIT.record(running - waiting);
+            RoomQueryResult result = query.execute(rooms);
+            Metrics.SEARCH_EXECUTE.recordSince(running);
+            Metrics.SEARCH_RESULTS.record(result.size());
+            return result;
+        }
+    }
+}
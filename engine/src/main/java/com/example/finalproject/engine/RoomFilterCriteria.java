@@ -0,0 +1,85 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// holds filter criteria for room searches.
+// used by RoomFilter to determine which filters to apply.
+
+public class RoomFilterCriteria {
+    public String roomType;
+    public String action;
+    public String numberText;
+    public LocalDate from;
+    public LocalDate to;
+    public Set<String> roomTypes; // optional: matches rooms of any of these types
+    public Set<String> amenities; // optional: matches rooms that include all of these (e.g. "Jacuzzi" AND "Kitchen")
+    public Integer minPrice; // optional: lowest nightly price (inclusive)
+    public Integer maxPrice; // optional: highest nightly price (inclusive)
+
+    // checks if a valid room number input is provided
+    public boolean hasRoomNumber() {
+        return numberText != null && !numberText.trim().isEmpty();
+    }
+
+    // determines if filtering by room type is needed
+    public boolean shouldFilterByType() {
+        return roomType != null && !roomType.equalsIgnoreCase(Constants.ACTION_ANY);
+    }
+
+    // determines if filtering by a set of room types is needed
+    public boolean shouldFilterByTypes() {
+        return roomTypes != null && !roomTypes.isEmpty();
+    }
+
+    // determines if filtering by required amenities is needed
+    public boolean shouldFilterByAmenities() {
+        return amenities != null && !amenities.isEmpty();
+    }
+
+    // determines if filtering by a price range is needed
+    public boolean shouldFilterByPrice() {
+        return minPrice != null || maxPrice != null;
+    }
+
+    // determines if filtering by action (book/cancel) is needed
+    public boolean shouldFilterByAction() {
+        return action != null && !action.equalsIgnoreCase(Constants.ACTION_ANY);
+    }
+
+    // returns true if the action selected is "Cancel"
+    public boolean isCancelAction() {
+        return action != null && action.equalsIgnoreCase(Constants.ACTION_CANCEL);
+    }
+
+    // an immutable copy of the criteria for use as a cache key.
+    // inputs that give the same search compare equal: type and amenity names are lowercased (matching
+    // is case-insensitive), "Any" becomes null, and the dates are dropped when no action uses them.
+    public Key toKey() {
+        boolean byAction = shouldFilterByAction();
+        return new Key(
+                hasRoomNumber() ? numberText.trim() : null,
+                shouldFilterByType() ? lowerCase(roomType) : null,
+                shouldFilterByTypes() ? lowerCase(roomTypes) : null,
+                shouldFilterByAmenities() ? lowerCase(amenities) : null,
+                minPrice,
+                maxPrice,
+                byAction ? isCancelAction() : null,
+                byAction ? from : null,
+                byAction ? to : null);
+    }
+
+    // normalized, immutable form of the criteria (see toKey)
+    public record Key(String roomNumber, String roomType, Set<String> roomTypes, Set<String> amenities,
+                      Integer minPrice, Integer maxPrice, Boolean cancel, LocalDate from, LocalDate to) {}
+
+    private static String lowerCase(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> lowerCase(Set<String> values) {
+        return values.stream().map(RoomFilterCriteria::lowerCase).collect(Collectors.toUnmodifiableSet());
+    }
+}
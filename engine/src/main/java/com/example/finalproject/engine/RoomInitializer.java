@@ -0,0 +1,236 @@
+package com.example.finalproject.engine;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+
+public class RoomInitializer {
+    // path to the rooms_1.json file in the user's home directory
+    private static final String ROOMS_FILE = System.getProperty("user.home") + File.separator + "rooms_1.json";
+    // binary alternative to rooms_1.json (see RoomSnapshot); used instead of the JSON file when it exists
+    private static final String SNAPSHOT_FILE = System.getProperty("user.home") + File.separator + "rooms_1.snapshot";
+    // booking events saved since rooms_1.json was last written
+    private static final String JOURNAL_FILE = System.getProperty("user.home") + File.separator + "rooms_1.journal";
+    // periodic dump of the runtime metrics (see Metrics)
+    static final String METRICS_FILE = System.getProperty("user.home") + File.separator + "rooms_1.metrics.log";
+    private static final ObjectMapper mapper = new ObjectMapper();
+    // readers and writers are immutable and thread-safe, so they are built once and shared
+    private static final ObjectReader roomReader = mapper.readerFor(Room.class);
+    private static final ObjectWriter roomsWriter = mapper.writerWithDefaultPrettyPrinter();
+
+    // loads room data from a file or creates default rooms if file is missing or empty.
+    public static RoomRegistry initializeRooms() {
+        File file = new File(ROOMS_FILE);
+        RoomRegistry rooms;
+        Path reading = null; // the file being loaded, kept aside if it turns out unreadable
+
+        try {
+            if (useSnapshot()) {
+                // binary snapshot: mapped, rooms are materialized only when they are shown or edited
+                reading = Path.of(SNAPSHOT_FILE);
+                rooms = new RoomRegistry(RoomSnapshot.open(reading));
+            } else if (!file.exists()) {
+                // file doesn't exist: create and save default rooms
+                rooms = new RoomRegistry(createDefaultRooms());
+                saveRooms(rooms);
+            } else {
+                if (Files.size(Path.of(ROOMS_FILE)) == 0) {
+                    // file exists but is empty: regenerate default rooms
+                    rooms = new RoomRegistry(createDefaultRooms());
+                    saveRooms(rooms);
+                } else {
+                    // file exists and has content: stream rooms from JSON
+                    reading = file.toPath();
+                    rooms = loadRooms(reading);
+                }
+            }
+        } catch (IOException e) {
+            if (reading != null) keepUnreadable(reading);
+            rooms = new RoomRegistry(createDefaultRooms()); // fallback in case of read error
+        }
+
+        return rooms;
+    }
+
+    // streams a JSON array of rooms straight into a registry, one room at a time.
+    // each room's booking index is built as the room is read, and no intermediate
+    // List<Room> is kept, so only the registry itself is in memory at the end.
+    // two rooms with the same number make the file invalid rather than one silently replacing the other.
+    public static RoomRegistry loadRooms(Path path) throws IOException {
+        RoomRegistry rooms = new RoomRegistry();
+        try (JsonParser parser = mapper.getFactory().createParser(path.toFile())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of rooms");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                Room room = roomReader.readValue(parser);
+                if (rooms.contains(room.getRoomNumber())) {
+                    throw new JsonParseException(parser, "Duplicate room number " + room.getRoomNumber());
+                }
+                rooms.add(room);
+            }
+            if (token != JsonToken.END_ARRAY) {
+                throw new JsonParseException(parser, "Expected a room object");
+            }
+        }
+        return rooms;
+    }
+
+    // opens the booking journal and replays it on top of the rooms loaded from rooms_1.json.
+    // a non-empty journal is folded into a fresh snapshot right away.
+    // returns null if the journal can't be opened (callers then fall back to a RoomWriter).
+    public static BookingJournal openJournal(RoomRegistry rooms) {
+        try {
+            BookingJournal journal = new BookingJournal(Path.of(JOURNAL_FILE));
+            if (journal.replay(rooms) > 0) {
+                journal.compact(() -> saveRooms(rooms));
+            }
+            return journal;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // writes every room in the registry to rooms_1.json (or the snapshot, if one is in use).
+    // blocks on disk I/O: UI code should save through RoomWriter instead.
+    public static void saveRooms(RoomRegistry rooms) throws IOException {
+        saveRooms(rooms.toList());
+    }
+
+    // writes rooms as a pretty-printed JSON array to the given file.
+    // the JSON goes to a temporary file that is synced and then replaces the target, so a crash,
+    // a power loss or a full disk mid-write leaves the previous file intact instead of a truncated one
+    // (and the journal is only truncated once the new file is durable).
+    public static void writeRooms(List<Room> rooms, Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        roomsWriter.writeValue(temp.toFile(), rooms);
+        FileUtils.replaceDurably(temp, path);
+    }
+
+    // writes the snapshot or the JSON file; duration, size and failures go to Metrics
+    private static void saveRooms(List<Room> rooms) throws IOException {
+        long start = System.nanoTime();
+        try {
+            boolean snapshot = useSnapshot();
+            Path file = Path.of(snapshot ? SNAPSHOT_FILE : ROOMS_FILE);
+            if (snapshot) {
+                RoomSnapshot.write(rooms, file);
+            } else {
+                writeRooms(rooms, file);
+            }
+            Metrics.PERSIST_BYTES.add(Files.size(file));
+            Metrics.PERSIST_DURATION.recordSince(start);
+        } catch (IOException e) {
+            Metrics.PERSIST_FAILURES.increment();
+            throw e;
+        }
+    }
+
+    // copies a rooms file that couldn't be loaded to <name>.unreadable, as the next save
+    // replaces it with the fallback rooms
+    private static void keepUnreadable(Path path) {
+        try {
+            Files.copy(path, path.resolveSibling(path.getFileName() + ".unreadable"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ignored) {
+            // the fallback rooms are used either way
+        }
+    }
+
+    // the snapshot is opt-in: it's used once RoomSnapshotConverter has created it
+    private static boolean useSnapshot() throws IOException {
+        Path snapshot = Path.of(SNAPSHOT_FILE);
+        return Files.exists(snapshot) && Files.size(snapshot) > 0;
+    }
+
+    // creates a default set of rooms divided by category and number range.
+    private static CustomLinkedList<Room> createDefaultRooms() {
+        CustomLinkedList<Room> rooms = new CustomLinkedList<Room>();
+
+        // Rooms 1–30: Standard Single
+        for (int i = 1; i <= 30; i++) {
+            rooms.add(new Room(
+                    "Standard Single",
+                    i,
+                    new String[]{"Single Double Bed"},
+                    79,
+                    "standard_single.jpg"
+            ));
+        }
+
+        // Rooms 31–45: Standard Family
+        for (int i = 31; i <= 45; i++) {
+            rooms.add(new Room(
+                    "Standard Family",
+                    i,
+                    new String[]{"Two Queen Beds"},
+                    129,
+                    "standard_family.jpg"
+            ));
+        }
+
+        // Rooms 46–50: Romantic Getaway
+        for (int i = 46; i <= 50; i++) {
+            rooms.add(new Room(
+                    "Romantic Getaway",
+                    i,
+                    new String[]{"Single King Bed", "Jacuzzi"},
+                    159,
+                    "romantic_getaway.jpg"
+            ));
+        }
+
+        // Rooms 51–60: Junior Suite
+        for (int i = 51; i <= 60; i++) {
+            rooms.add(new Room(
+                    "Junior Suite",
+                    i,
+                    new String[]{
+                            "Single Queen Bed", "Fold-out couch", "Kitchen", "Standard Washroom"
+                    },
+                    199,
+                    "junior_suite.jpg"
+            ));
+        }
+
+        // Rooms 61–65: Platinum Suite
+        for (int i = 61; i <= 65; i++) {
+            rooms.add(new Room(
+                    "Platinum Suite",
+                    i,
+                    new String[]{
+                            "Single King Bed", "Fold-out couch", "Kitchen", "Luxury Washroom", "Jacuzzi"
+                    },
+                    299,
+                    "platinum_suite.jpg"
+            ));
+        }
+
+        // Rooms 66–67: Penthouse Suite
+        for (int i = 66; i <= 67; i++) {
+            rooms.add(new Room(
+                    "Penthouse Suite",
+                    i,
+                    new String[]{
+                            "One King Bed", "Two Queen Beds", "Living Room with Entertainment Unit",
+                            "Luxury Kitchen", "Luxury Washroom", "Jacuzzi"
+                    },
+                    599,
+                    "penthouse.jpg"
+            ));
+        }
+
+        return rooms;
+    }
+}
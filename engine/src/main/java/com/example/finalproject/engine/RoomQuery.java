@@ -0,0 +1,189 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+// a RoomFilterCriteria compiled into a single-pass query.
+// the predicates are fused into one sweep over the registry and checked cheapest first:
+// room number (a direct lookup), then room type / amenities (bitset intersections from
+// the registry's attribute index) and price (a sweep over the store's price column), then
+// the date overlap, which only runs for rooms that passed the other checks.
+// inventories above a size threshold are swept in parallel on the fork-join pool.
+public final class RoomQuery {
+    // registries with at least this many rooms are filtered in parallel
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 50_000;
+    // the threshold searches use: the default, or -Dfinalproject.parallelThreshold=<rooms>
+    // (0 splits every search, a very large value keeps them all sequential)
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "finalproject.parallelThreshold";
+    public static final int PARALLEL_THRESHOLD = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD);
+
+    private final int roomNumber; // 0 = any room number
+    private final List<String> roomTypes; // null = any type, otherwise any of these
+    private final List<String> amenities; // null, or amenities that must all be included
+    private final boolean filterByPrice;
+    private final int minPrice;
+    private final int maxPrice;
+    private final boolean filterByDate;
+    private final boolean cancel; // true: rooms with an overlapping booking, false: free rooms
+    private final long fromDay;
+    private final long toDay;
+
+    private RoomQuery(int roomNumber, List<String> roomTypes, List<String> amenities,
+                      boolean filterByPrice, int minPrice, int maxPrice,
+                      boolean filterByDate, boolean cancel, long fromDay, long toDay) {
+        this.roomNumber = roomNumber;
+        this.roomTypes = roomTypes;
+        this.amenities = amenities;
+        this.filterByPrice = filterByPrice;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.filterByDate = filterByDate;
+        this.cancel = cancel;
+        this.fromDay = fromDay;
+        this.toDay = toDay;
+    }
+
+    // compiles the criteria; returns null if the room number input is invalid
+    public static RoomQuery compile(RoomFilterCriteria criteria) {
+        int number = 0;
+        if (criteria.hasRoomNumber()) {
+            try {
+                number = Integer.parseInt(criteria.numberText.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (number <= 0) return null;
+        }
+
+        List<String> types = criteria.shouldFilterByTypes() ? List.copyOf(criteria.roomTypes) : null;
+        if (criteria.shouldFilterByType()) {
+            // the single selected type narrows the multi-type set to that type (or to nothing)
+            boolean allowed = types == null || types.stream().anyMatch(t -> t.equalsIgnoreCase(criteria.roomType));
+            types = allowed ? List.of(criteria.roomType) : List.of();
+        }
+        List<String> amenities = criteria.shouldFilterByAmenities() ? List.copyOf(criteria.amenities) : null;
+        boolean byPrice = criteria.shouldFilterByPrice();
+        int minPrice = criteria.minPrice != null ? criteria.minPrice : Integer.MIN_VALUE;
+        int maxPrice = criteria.maxPrice != null ? criteria.maxPrice : Integer.MAX_VALUE;
+
+        LocalDate from = criteria.from;
+        LocalDate to = criteria.to;
+        boolean byDate = criteria.shouldFilterByAction() && from != null && to != null && !from.isAfter(to);
+        return new RoomQuery(number, types, amenities, byPrice, minPrice, maxPrice, byDate, criteria.isCancelAction(),
+                byDate ? from.toEpochDay() : 0, byDate ? to.toEpochDay() : 0);
+    }
+
+    // runs the query in one pass over the registry, in parallel above PARALLEL_THRESHOLD rooms;
+    // results keep registry order
+    public RoomQueryResult execute(RoomRegistry rooms) {
+        return execute(rooms, PARALLEL_THRESHOLD);
+    }
+
+    // same with an explicit threshold: the sweep runs in parallel once the registry has parallelThreshold rooms or more.
+    // holds the registry lock for the whole query (callers like RoomFilter.applyFilters usually hold it already),
+    // so the registry can't change while its indexes and columns are read.
+    public RoomQueryResult execute(RoomRegistry rooms, int parallelThreshold) {
+        synchronized (rooms) {
+            return run(rooms, parallelThreshold);
+        }
+    }
+
+    private RoomQueryResult run(RoomRegistry rooms, int parallelThreshold) {
+        RoomAttributeIndex attributes = rooms.getAttributes();
+
+        if (roomNumber > 0) {
+            // a single candidate: check its own booking index rather than building the bitmap
+            RoomQueryResult result = new RoomQueryResult(rooms, 1);
+            int ordinal = rooms.ordinalOf(roomNumber);
+            if (ordinal >= 0 && matchesAttributes(attributes, ordinal) && matchesPrice(rooms.getStore(), ordinal)
+                    && (!filterByDate || rooms.overlapsBooking(ordinal, fromDay, toDay) == cancel)) {
+                result.add(ordinal);
+            }
+            return result;
+        }
+
+        int size = rooms.size();
+        BitSet candidates = candidates(attributes, rooms.getStore()); // null = every room
+        if (size >= parallelThreshold) return executeParallel(rooms, candidates);
+
+        RoomQueryResult result = new RoomQueryResult(rooms, candidates == null && !filterByDate ? size : 16);
+        long[] booked = null; // computed when the first candidate is found
+
+        int ordinal = candidates == null ? 0 : candidates.nextSetBit(0);
+        while (ordinal >= 0 && ordinal < size) {
+            if (filterByDate && booked == null) booked = rooms.getAvailability().bookedRooms(fromDay, toDay);
+            if (!filterByDate || AvailabilityIndex.isSet(booked, ordinal) == cancel) {
+                result.add(ordinal);
+            }
+            ordinal = candidates == null ? ordinal + 1 : candidates.nextSetBit(ordinal + 1);
+        }
+        return result;
+    }
+
+    // splits the registry's ordinals across the fork-join pool the caller runs in, or the common pool.
+    // toArray() keeps encounter order, so the matches come back in the same order as the sequential sweep.
+    private RoomQueryResult executeParallel(RoomRegistry rooms, BitSet candidates) {
+        IntPredicate matchesDate = dateFilter(rooms);
+        int[] matches = rooms.ordinals()
+                .parallel()
+                .filter(ordinal -> candidates == null || candidates.get(ordinal))
+                .filter(matchesDate)
+                .toArray();
+        return new RoomQueryResult(rooms, matches);
+    }
+
+    // the date check for the parallel sweep: a lookup in the availability bitmap when the range is
+    // inside its horizon, otherwise each room's own bookings, checked independently per room
+    // (without the registry lock, which the workers can't take while this thread holds it)
+    private IntPredicate dateFilter(RoomRegistry rooms) {
+        if (!filterByDate) return ordinal -> true;
+        AvailabilityIndex availability = rooms.getAvailability();
+        if (fromDay >= availability.getFirstDay() && toDay <= availability.getLastDay()) {
+            long[] booked = availability.bookedRooms(fromDay, toDay);
+            return ordinal -> AvailabilityIndex.isSet(booked, ordinal) == cancel;
+        }
+        IntPredicate overlaps = rooms.bookingOverlaps(fromDay, toDay);
+        return ordinal -> overlaps.test(ordinal) == cancel;
+    }
+
+    // intersects the type, amenity and price bitsets; returns null when there is no such filter
+    private BitSet candidates(RoomAttributeIndex attributes, RoomStore store) {
+        BitSet result = null;
+        if (roomTypes != null) result = attributes.roomsOfAnyType(roomTypes);
+        if (amenities != null) result = intersect(result, attributes.roomsWithAllAmenities(amenities));
+        if (filterByPrice) result = intersect(result, store.roomsWithPriceBetween(minPrice, maxPrice));
+        return result;
+    }
+
+    private static BitSet intersect(BitSet result, BitSet rooms) {
+        if (result == null) return rooms;
+        result.and(rooms);
+        return result;
+    }
+
+    private boolean matchesPrice(RoomStore store, int ordinal) {
+        if (!filterByPrice) return true;
+        int price = store.price(ordinal);
+        return price >= minPrice && price <= maxPrice;
+    }
+
+    // per-room version of candidates(), used for the single room number lookup
+    private boolean matchesAttributes(RoomAttributeIndex attributes, int ordinal) {
+        if (roomTypes != null && !hasAnyType(attributes, ordinal)) return false;
+        if (amenities != null) {
+            for (String amenity : amenities) {
+                if (!attributes.hasAmenity(ordinal, amenity)) return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasAnyType(RoomAttributeIndex attributes, int ordinal) {
+        for (String type : roomTypes) {
+            if (attributes.hasType(ordinal, type)) return true;
+        }
+        return false;
+    }
+}
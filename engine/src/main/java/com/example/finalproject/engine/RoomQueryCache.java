@@ -0,0 +1,108 @@
+package com.example.finalproject.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// bounded LRU cache of search results for one registry, keyed by the normalized criteria.
+// switching back and forth between the same type/action/date filters returns the earlier
+// result instead of running the query again.
+// every result was computed at some registry version; when the registry's version moves on
+// (a room was added, replaced or edited, or bookings were saved) the whole cache is dropped on the next search.
+// results are read-only ordinal lists, so one result can be handed to any number of searches.
+public class RoomQueryCache {
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final RoomRegistry rooms;
+    private final Map<RoomFilterCriteria.Key, RoomQueryResult> results;
+    private long version; // registry version the cached results belong to
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RoomQueryCache(RoomRegistry rooms) {
+        this(rooms, DEFAULT_CAPACITY);
+    }
+
+    public RoomQueryCache(RoomRegistry rooms, int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Invalid cache capacity: " + capacity);
+        this.rooms = rooms;
+        this.version = rooms.getVersion();
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RoomFilterCriteria.Key, RoomQueryResult> eldest) {
+                if (size() <= capacity) return false;
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    // same contract as RoomFilter.applyFilters, answered from the cache when the same search
+    // was already run against the current registry version. invalid input is not cached.
+    public RoomQueryResult search(RoomFilterCriteria criteria) {
+        RoomFilterCriteria.Key key = criteria.toKey();
+        // the registry lock keeps its version from moving between the check and the put
+        synchronized (rooms) {
+            synchronized (results) {
+                if (version != rooms.getVersion()) {
+                    if (!results.isEmpty()) invalidations.incrementAndGet();
+                    results.clear();
+                    version = rooms.getVersion();
+                }
+                RoomQueryResult cached = results.get(key);
+                if (cached != null) {
+                    hits.incrementAndGet();
+                    return cached;
+                }
+            }
+
+            misses.incrementAndGet();
+            RoomQueryResult result = RoomFilter.applyFilters(rooms, criteria);
+            if (result == null) return null;
+            synchronized (results) {
+                results.put(key, result);
+            }
+            return result;
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    // results dropped to stay within capacity
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    // times the cache was emptied because the registry changed
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    // share of searches answered from the cache, 0 before the first search
+    public double getHitRate() {
+        long h = hits.get();
+        long total = h + misses.get();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    // number of results currently held
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+}
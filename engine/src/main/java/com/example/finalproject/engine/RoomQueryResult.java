@@ -0,0 +1,73 @@
+package com.example.finalproject.engine;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// lightweight, read-only result of a room search.
+// stores only the ordinals of the matching rooms and reads the rooms from the registry,
+// so a search allocates one int[] instead of copying the room list.
+public class RoomQueryResult implements Iterable<Room> {
+    private final RoomRegistry rooms;
+    private int[] ordinals;
+    private int size;
+
+    RoomQueryResult(RoomRegistry rooms, int expectedSize) {
+        this.rooms = rooms;
+        this.ordinals = new int[Math.max(expectedSize, 1)];
+    }
+
+    // wraps ordinals that are already collected, in registry order
+    RoomQueryResult(RoomRegistry rooms, int[] ordinals) {
+        this.rooms = rooms;
+        this.ordinals = ordinals;
+        this.size = ordinals.length;
+    }
+
+    // appends a matching room by its registry ordinal (results are built in ordinal order)
+    void add(int ordinal) {
+        if (size == ordinals.length) ordinals = Arrays.copyOf(ordinals, Math.max(size * 2, 1));
+        ordinals[size++] = ordinal;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // returns the matching room at the given position
+    public Room get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index);
+        return rooms.getAt(ordinals[index]);
+    }
+
+    // copies the matches into a CustomLinkedList
+    public CustomLinkedList<Room> toLinkedList() {
+        CustomLinkedList<Room> result = new CustomLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(rooms.getAt(ordinals[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<Room> iterator() {
+        return new Iterator<Room>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Room next() {
+                if (next >= size) throw new NoSuchElementException();
+                return rooms.getAt(ordinals[next++]);
+            }
+        };
+    }
+}
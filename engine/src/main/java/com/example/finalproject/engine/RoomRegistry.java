@@ -0,0 +1,461 @@
+package com.example.finalproject.engine;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// registry of rooms keyed by room number.
+// lookups and replacements go through a primitive int-keyed open-addressing table (O(1)),
+// while iteration walks a dense array in insertion order for display.
+// the rooms' scalar fields and bookings are kept column-wise in a RoomStore, with each registered
+// Room acting as a facade over its slot.
+// changes, lookups and searches synchronize on the registry, so searches can run off the JavaFX thread
+// and a lookup never sees the table halfway through a grow or a rebuild.
+// a registry opened over a RoomSnapshot starts out empty-handed: rooms are materialized from the
+// mapped file the first time they are asked for, and the number table and attribute index are built
+// from the snapshot's columns on first lookup, so opening it costs the same for any inventory size.
+public class RoomRegistry implements Iterable<Room> {
+    private static final int EMPTY = 0; // room numbers are positive, so 0 marks a free slot
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] keys; // room numbers, linear probing
+    private int[] slots; // position in rooms[] for the key at the same index
+    private Room[] rooms; // dense storage, insertion ordered
+    private volatile int size; // read without the lock by iterators and ordinals()
+    private AvailabilityIndex availability; // built on first use, then kept in sync
+    private final RoomAttributeIndex attributes = new RoomAttributeIndex(); // type/amenity -> rooms
+    private final RoomStore store = new RoomStore(); // columns by ordinal: number, price, type, image, bookings
+    private volatile RoomSnapshot snapshot; // source of rooms not materialized yet; dropped once all are
+    private int materialized; // rooms[] entries filled from the snapshot
+    private volatile boolean indexed = true; // false until the table and attributes cover the snapshot
+    private volatile long version; // bumped on every change to the rooms, their fields or their bookings
+
+    public RoomRegistry() {
+        keys = new int[INITIAL_CAPACITY * 2];
+        slots = new int[INITIAL_CAPACITY * 2];
+        rooms = new Room[INITIAL_CAPACITY];
+    }
+
+    // builds a registry from an existing list of rooms, keeping their order
+    public RoomRegistry(Iterable<Room> source) {
+        this();
+        for (Room room : source) {
+            add(room);
+        }
+    }
+
+    // opens a registry over a snapshot; its rooms (which have unique numbers, as the snapshot was
+    // written from a registry) are read from the mapped file as they are needed
+    public RoomRegistry(RoomSnapshot snapshot) {
+        this();
+        if (snapshot.size() == 0) return;
+        this.snapshot = snapshot;
+        size = snapshot.size();
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < size) capacity <<= 1; // the table built from it must stay a power of two
+        rooms = new Room[capacity];
+        indexed = false;
+    }
+
+    // adds a room; fails if a room with the same number is already registered (use replace for that)
+    public synchronized void add(Room room) {
+        int number = room.getRoomNumber();
+        if (number <= 0) throw new IllegalArgumentException("Invalid room number: " + number);
+        ensureIndexed();
+
+        int index = indexOf(number);
+        if (keys[index] == number) throw new IllegalArgumentException("Room " + number + " is already registered");
+        checkUnregistered(room);
+
+        if (size == rooms.length) grow();
+        index = indexOf(number); // table may have been rebuilt
+        keys[index] = number;
+        slots[index] = size;
+        room.attach(this, store, size);
+        rooms[size] = room;
+        attributes.addRoom(size, room);
+        if (availability != null) availability.addRoom(size, room);
+        size++;
+        version++;
+    }
+
+    // replaces the registered room with the same number; returns false if it isn't registered
+    public synchronized boolean replace(Room room) {
+        int ordinal = ordinalOf(room.getRoomNumber());
+        if (ordinal < 0) return false;
+        setAt(ordinal, room);
+        return true;
+    }
+
+    // replaces the bookings of the registered room with the room's number and updates the
+    // availability bitmap for just the changed ranges. bookings are always changed through here
+    // (a registered room's setBookedDates calls it) so searches see them.
+    public synchronized void updateBookings(Room room, BookingIndex bookings) {
+        int ordinal = ordinalOf(room.getRoomNumber());
+        if (ordinal < 0) throw new IllegalArgumentException("Room " + room.getRoomNumber() + " is not registered");
+        BookingIndex before = getAt(ordinal).getBookedDates();
+        store.setBookings(ordinal, bookings);
+        if (availability != null) availability.updateRoom(ordinal, before, bookings);
+        version++;
+    }
+
+    // replaces the bookings of several rooms as one change: a search runs under the same lock,
+    // so it sees either all of the new bookings or none of them
+    public synchronized void updateBookings(Map<Room, BookingIndex> bookings) {
+        for (Room room : bookings.keySet()) {
+            if (ordinalOf(room.getRoomNumber()) < 0) {
+                throw new IllegalArgumentException("Room " + room.getRoomNumber() + " is not registered");
+            }
+        }
+        bookings.forEach(this::updateBookings);
+    }
+
+    // the setters of a registered room call the methods below, so every change to a room goes
+    // through the registry lock, the derived structures follow it and the version moves
+
+    // a change to a column nothing else is derived from (price, image)
+    synchronized void changeColumns(Room room, Runnable change) {
+        checkRegisteredHere(room);
+        change.run();
+        version++;
+    }
+
+    // a change to the room's type or amenities: its attribute index entries are replaced
+    synchronized void changeAttributes(Room room, Runnable change) {
+        int ordinal = checkRegisteredHere(room);
+        attributes.removeRoom(ordinal, room);
+        change.run();
+        attributes.addRoom(ordinal, room);
+        version++;
+    }
+
+    // a new room number: the number table is rebuilt, as open addressing can't move one key in place
+    synchronized void changeNumber(Room room, int number) {
+        int ordinal = checkRegisteredHere(room);
+        if (number <= 0) throw new IllegalArgumentException("Invalid room number: " + number);
+        if (store.roomNumber(ordinal) == number) return;
+        if (ordinalOf(number) >= 0) throw new IllegalArgumentException("Room " + number + " is already registered");
+        store.setRoomNumber(ordinal, number);
+        rebuildTable();
+        version++;
+    }
+
+    // the registry's change count: it moves whenever a room is added or replaced, or any of a
+    // registered room's fields or bookings change, so anything derived from an earlier version
+    // (e.g. a cached search) is stale
+    public long getVersion() {
+        return version;
+    }
+
+    // returns the hotel-wide availability bitmap, built on first use and rolled forward to today
+    public synchronized AvailabilityIndex getAvailability() {
+        if (availability == null) {
+            availability = new AvailabilityIndex(this);
+        } else {
+            availability.rollTo(LocalDate.now().toEpochDay());
+        }
+        return availability;
+    }
+
+    // returns the room type and amenity indexes
+    public RoomAttributeIndex getAttributes() {
+        ensureIndexed();
+        return attributes;
+    }
+
+    // returns the column store behind the registered rooms (slots are room ordinals)
+    public RoomStore getStore() {
+        ensureIndexed();
+        return store;
+    }
+
+    // returns the room with the given number, or null if there is none
+    public synchronized Room get(int roomNumber) {
+        int ordinal = ordinalOf(roomNumber);
+        return ordinal < 0 ? null : getAt(ordinal);
+    }
+
+    public synchronized boolean contains(int roomNumber) {
+        return ordinalOf(roomNumber) >= 0;
+    }
+
+    // returns the position of the room in iteration order (its ordinal), or -1 if it isn't registered
+    public synchronized int ordinalOf(int roomNumber) {
+        if (roomNumber <= 0) return -1;
+        ensureIndexed();
+        int index = indexOf(roomNumber);
+        return keys[index] == EMPTY ? -1 : slots[index];
+    }
+
+    // returns the room at the given position in iteration order
+    public synchronized Room getAt(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) throw new IndexOutOfBoundsException("Index: " + ordinal);
+        Room room = rooms[ordinal];
+        return room != null ? room : materialize(ordinal);
+    }
+
+    // true if the room at the given ordinal has a booking overlapping [fromDay, toDay];
+    // a room still in the snapshot is checked there without materializing it
+    public synchronized boolean overlapsBooking(int ordinal, long fromDay, long toDay) {
+        RoomSnapshot source = snapshot;
+        if (rooms[ordinal] == null && source != null) return source.overlaps(ordinal, fromDay, toDay);
+        return getAt(ordinal).getBookedDates().overlaps(fromDay, toDay);
+    }
+
+    // overlapsBooking for every room, for a parallel sweep. its fork-join workers can't take the
+    // registry lock while the searching thread holds it (that would deadlock), so the returned check
+    // reads the rooms without it: the caller must hold the lock until the sweep is done, which keeps
+    // every change out, and forking the sweep's tasks publishes the state to the workers
+    IntPredicate bookingOverlaps(long fromDay, long toDay) {
+        if (!Thread.holdsLock(this)) throw new IllegalStateException("The registry lock is not held");
+        Room[] current = rooms;
+        RoomSnapshot source = snapshot;
+        return ordinal -> current[ordinal] == null && source != null
+                ? source.overlaps(ordinal, fromDay, toDay)
+                : store.bookings(ordinal).overlaps(fromDay, toDay);
+    }
+
+    // passes every booking of the room at the given ordinal to the visitor, as epoch days
+    public synchronized void forEachBooking(int ordinal, RoomSnapshot.BookingVisitor visitor) {
+        RoomSnapshot source = snapshot;
+        if (rooms[ordinal] == null && source != null) {
+            source.forEachBooking(ordinal, visitor);
+            return;
+        }
+        for (DateRange range : getAt(ordinal).getBookedDates()) {
+            visitor.visit(range.getStartDay(), range.getEndDay());
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // returns a new CustomLinkedList containing only rooms that match the given condition
+    public synchronized CustomLinkedList<Room> filter(Predicate<Room> condition) {
+        CustomLinkedList<Room> result = new CustomLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            Room room = getAt(i);
+            if (condition.test(room)) result.add(room);
+        }
+        return result;
+    }
+
+    // copies all rooms into a CustomLinkedList, in iteration order
+    public synchronized CustomLinkedList<Room> toLinkedList() {
+        CustomLinkedList<Room> result = new CustomLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            result.add(getAt(i));
+        }
+        return result;
+    }
+
+    // converts the registry to a standard Java List (used for JSON serialization)
+    public synchronized List<Room> toList() {
+        for (int i = 0; snapshot != null && i < size; i++) {
+            getAt(i); // a save needs every room, and the snapshot file may be replaced by it
+        }
+        return new ArrayList<>(Arrays.asList(rooms).subList(0, size));
+    }
+
+    // the ordinals of the registered rooms, 0 to size-1. the stream is SIZED, SUBSIZED and ORDERED,
+    // so a parallel stream splits the storage into even index ranges and keeps registry order
+    public IntStream ordinals() {
+        return IntStream.range(0, size);
+    }
+
+    // the rooms in registry order; see spliterator()
+    public Stream<Room> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<Room> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    // splits the dense storage by index range, with exact sizes, so parallel streams divide it evenly
+    @Override
+    public Spliterator<Room> spliterator() {
+        return new RoomSpliterator(0, size);
+    }
+
+    @Override
+    public Iterator<Room> iterator() {
+        return new Iterator<Room>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Room next() {
+                if (next >= size) throw new NoSuchElementException();
+                return getAt(next++);
+            }
+        };
+    }
+
+    // walks ordinals [next, end); trySplit hands off the first half
+    private final class RoomSpliterator implements Spliterator<Room> {
+        private int next;
+        private final int end;
+
+        RoomSpliterator(int next, int end) {
+            this.next = next;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Room> action) {
+            if (next >= end) return false;
+            action.accept(getAt(next++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super Room> action) {
+            while (next < end) {
+                action.accept(getAt(next++));
+            }
+        }
+
+        @Override
+        public Spliterator<Room> trySplit() {
+            int mid = (next + end) >>> 1;
+            if (mid <= next) return null;
+            Spliterator<Room> prefix = new RoomSpliterator(next, mid);
+            next = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - next;
+        }
+
+        @Override
+        public int characteristics() {
+            return SIZED | SUBSIZED | ORDERED | NONNULL;
+        }
+    }
+
+    private void setAt(int ordinal, Room room) {
+        Room previous = getAt(ordinal);
+        if (previous == room) return;
+        checkUnregistered(room);
+        version++;
+        previous.detach();
+        room.attach(this, store, ordinal);
+        rooms[ordinal] = room;
+        attributes.removeRoom(ordinal, previous);
+        attributes.addRoom(ordinal, room);
+        if (availability != null) {
+            availability.updateRoom(ordinal, previous.getBookedDates(), room.getBookedDates());
+        }
+    }
+
+    private Room materialize(int ordinal) {
+        Room room = rooms[ordinal];
+        if (room == null) {
+            room = snapshot.room(ordinal);
+            room.attach(this, store, ordinal);
+            rooms[ordinal] = room;
+            if (++materialized == snapshot.size()) snapshot = null; // everything is on the heap now
+        }
+        return room;
+    }
+
+    // a room can only be in one registry (and at one ordinal) at a time
+    private static void checkUnregistered(Room room) {
+        if (room.isRegistered()) {
+            throw new IllegalArgumentException("Room " + room.getRoomNumber() + " is already registered");
+        }
+    }
+
+    // returns the ordinal of a room registered here, after making sure the indexes cover it
+    private int checkRegisteredHere(Room room) {
+        if (!room.isRegisteredIn(this)) {
+            throw new IllegalStateException("Room " + room.getRoomNumber() + " is not registered here");
+        }
+        ensureIndexed();
+        return room.ordinal();
+    }
+
+    // room number at an ordinal, read from the snapshot if the room isn't materialized
+    private int numberAt(int ordinal) {
+        Room room = rooms[ordinal];
+        return room != null ? room.getRoomNumber() : snapshot.roomNumber(ordinal);
+    }
+
+    // builds the number table and the attribute index from the snapshot's columns on first use
+    private void ensureIndexed() {
+        if (indexed) return;
+        synchronized (this) {
+            if (indexed) return;
+            keys = new int[rooms.length * 2];
+            slots = new int[rooms.length * 2];
+            for (int i = 0; i < size; i++) {
+                int number = numberAt(i);
+                int index = indexOf(number);
+                keys[index] = number;
+                slots[index] = i;
+                if (rooms[i] == null) {
+                    // not materialized: fill its columns straight from the snapshot's
+                    String roomType = snapshot.typeName(snapshot.typeId(i));
+                    store.set(i, number, snapshot.price(i), roomType, snapshot.imageName(snapshot.imageId(i)));
+                    attributes.addRoom(i, roomType, snapshot.amenities(i));
+                } else {
+                    attributes.addRoom(i, rooms[i]);
+                }
+            }
+            indexed = true;
+        }
+    }
+
+    // finds the table index holding the key, or the empty index where it would be inserted
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    // doubles the dense array and rebuilds the table, keeping the load factor at or below 1/2
+    private void grow() {
+        rooms = Arrays.copyOf(rooms, rooms.length * 2);
+        rebuildTable();
+    }
+
+    // refills the number table from the rooms' current numbers
+    private void rebuildTable() {
+        keys = new int[rooms.length * 2];
+        slots = new int[rooms.length * 2];
+        for (int i = 0; i < size; i++) {
+            int number = numberAt(i);
+            int index = indexOf(number);
+            keys[index] = number;
+            slots[index] = i;
+        }
+    }
+
+    // spreads sequential room numbers across the table
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
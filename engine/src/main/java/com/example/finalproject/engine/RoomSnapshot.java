@@ -0,0 +1,331 @@
+package com.example.finalproject.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// compact binary snapshot of every room and its bookings, an alternative to rooms_1.json.
+// layout (big-endian):
+//     header       magic "KIRS", version, flags, room count, columns offset, data offset
+//     dictionaries room types, amenities, image names: varint count, then varint length + UTF-8 each
+//     columns      room numbers (int), prices (int), data offsets (int), type ids (short), image ids (short)
+//     data         per room: varint amenity ids, then bookings as varint deltas of epoch days
+// rooms refer to dictionary entries by id, so repeated strings are stored once.
+// open() maps the file and reads only the header and dictionaries; a room's columns and
+// data are decoded when that room is asked for, and its amenities and bookings can be read
+// without building a Room at all.
+public class RoomSnapshot {
+    public static final int MAGIC = 0x4B495253; // "KIRS"
+    public static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 20;
+    private static final int NONE = -1; // id stored for a null type or image name
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final String[] types;
+    private final String[] amenities;
+    private final String[] images;
+    // start of each column
+    private final int numbersAt;
+    private final int pricesAt;
+    private final int offsetsAt;
+    private final int typeIdsAt;
+    private final int imageIdsAt;
+    private final int dataAt;
+
+    private RoomSnapshot(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a room snapshot");
+        }
+        int version = buffer.getShort(4);
+        if (version != VERSION) throw new IOException("Unsupported room snapshot version: " + version);
+        size = buffer.getInt(8);
+        int columnsAt = buffer.getInt(12);
+        dataAt = buffer.getInt(16);
+
+        ByteBuffer in = buffer.duplicate().position(HEADER_SIZE);
+        types = readDictionary(in);
+        amenities = readDictionary(in);
+        images = readDictionary(in);
+
+        numbersAt = columnsAt;
+        pricesAt = numbersAt + 4 * size;
+        offsetsAt = pricesAt + 4 * size;
+        typeIdsAt = offsetsAt + 4 * size;
+        imageIdsAt = typeIdsAt + 2 * size;
+        if (in.position() > columnsAt || imageIdsAt + 2 * size > dataAt || dataAt > buffer.limit()) {
+            throw new IOException("Corrupt room snapshot");
+        }
+    }
+
+    // memory-maps a snapshot file; rooms are decoded on demand
+    public static RoomSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new RoomSnapshot(mapped);
+        }
+    }
+
+    // writes the rooms, in order, as a snapshot file.
+    // the bytes go to a temporary file that is synced and then replaces the target, so a snapshot
+    // that is currently mapped is never rewritten in place (the old mapping keeps the old file),
+    // and a crash mid-write leaves the previous snapshot intact.
+    public static void write(List<Room> rooms, Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, encode(rooms));
+        FileUtils.replaceDurably(temp, path);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int roomNumber(int index) {
+        return buffer.getInt(numbersAt + 4 * checkIndex(index));
+    }
+
+    public int price(int index) {
+        return buffer.getInt(pricesAt + 4 * checkIndex(index));
+    }
+
+    // dictionary id of the room's type, or -1 if it has none
+    public int typeId(int index) {
+        return buffer.getShort(typeIdsAt + 2 * checkIndex(index));
+    }
+
+    // dictionary id of the room's image name, or -1 if it has none
+    public int imageId(int index) {
+        return buffer.getShort(imageIdsAt + 2 * checkIndex(index));
+    }
+
+    public String typeName(int typeId) {
+        return typeId == NONE ? null : types[typeId];
+    }
+
+    public String imageName(int imageId) {
+        return imageId == NONE ? null : images[imageId];
+    }
+
+    // the room types, indexed by type id
+    public List<String> getTypeNames() {
+        return List.of(types);
+    }
+
+    // decodes the room at the given position, with its amenities and bookings
+    public Room room(int index) {
+        Room room = new Room(typeName(typeId(index)), roomNumber(index), null, price(index), imageName(imageId(index)));
+        room.setIncludes(amenities(index));
+        forEachBooking(index, (start, end) -> room.addBookedDate(
+                new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(start)), DateUtils.toDate(LocalDate.ofEpochDay(end)))));
+        room.getBookedDates().trimToSize();
+        return room;
+    }
+
+    // decodes only the room's amenities (null if it has no amenity array)
+    public String[] amenities(int index) {
+        ByteBuffer in = dataOf(index);
+        int count = readVarint(in) - 1; // 0 means no amenity array at all
+        if (count < 0) return null;
+        String[] includes = new String[count];
+        for (int i = 0; i < count; i++) {
+            int id = readVarint(in) - 1; // 0 is a null entry
+            includes[i] = id == NONE ? null : amenities[id];
+        }
+        return includes;
+    }
+
+    // passes each of the room's bookings, in start order, to the visitor without building DateRanges
+    public void forEachBooking(int index, BookingVisitor visitor) {
+        ByteBuffer in = bookingsOf(index);
+        int count = readVarint(in);
+        long start = 0;
+        for (int i = 0; i < count; i++) {
+            start += zigZagDecode(readVarLong(in));
+            visitor.visit(start, start + zigZagDecode(readVarLong(in)));
+        }
+    }
+
+    // true if any of the room's bookings overlaps [fromDay, toDay] (both ends inclusive).
+    // bookings are sorted by start, so the scan stops at the first one starting after toDay.
+    public boolean overlaps(int index, long fromDay, long toDay) {
+        ByteBuffer in = bookingsOf(index);
+        int count = readVarint(in);
+        long start = 0;
+        for (int i = 0; i < count; i++) {
+            start += zigZagDecode(readVarLong(in));
+            if (start > toDay) return false;
+            if (start + zigZagDecode(readVarLong(in)) >= fromDay) return true;
+        }
+        return false;
+    }
+
+    // receives one booking as local epoch days (both ends inclusive)
+    @FunctionalInterface
+    public interface BookingVisitor {
+        void visit(long startDay, long endDay);
+    }
+
+    // decodes every room into a new registry, in file order
+    public RoomRegistry toRegistry() {
+        RoomRegistry rooms = new RoomRegistry();
+        for (int i = 0; i < size; i++) {
+            rooms.add(room(i));
+        }
+        return rooms;
+    }
+
+    // encodes the rooms in the snapshot layout described above
+    static byte[] encode(List<Room> rooms) throws IOException {
+        int count = rooms.size();
+        Dictionary typeIds = new Dictionary();
+        Dictionary amenityIds = new Dictionary();
+        Dictionary imageIds = new Dictionary();
+
+        // room data first, so the dictionaries are complete before they're written
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            Room room = rooms.get(i);
+            offsets[i] = data.size();
+            typeIds.idOf(room.getRoomType());
+            imageIds.idOf(room.getImageName());
+
+            String[] includes = room.getIncludes();
+            writeVarint(data, includes == null ? 0 : includes.length + 1);
+            if (includes != null) {
+                for (String amenity : includes) writeVarint(data, amenityIds.idOf(amenity) + 1);
+            }
+
+            BookingIndex bookings = room.getBookedDates();
+            writeVarint(data, bookings == null ? 0 : bookings.size());
+            if (bookings != null) {
+                long previousStart = 0;
+                for (DateRange range : bookings) { // sorted by start day, so start deltas stay small
+                    writeVarint(data, zigZagEncode(range.getStartDay() - previousStart));
+                    writeVarint(data, zigZagEncode(range.getEndDay() - range.getStartDay()));
+                    previousStart = range.getStartDay();
+                }
+            }
+        }
+
+        ByteArrayOutputStream dictionaries = new ByteArrayOutputStream();
+        typeIds.writeTo(dictionaries);
+        amenityIds.writeTo(dictionaries);
+        imageIds.writeTo(dictionaries);
+
+        int columnsAt = HEADER_SIZE + dictionaries.size();
+        int dataAt = columnsAt + count * (4 + 4 + 4 + 2 + 2);
+        ByteBuffer out = ByteBuffer.allocate(dataAt + data.size());
+        out.putInt(MAGIC).putShort((short) VERSION).putShort((short) 0)
+                .putInt(count).putInt(columnsAt).putInt(dataAt);
+        out.put(dictionaries.toByteArray());
+        for (Room room : rooms) out.putInt(room.getRoomNumber());
+        for (Room room : rooms) out.putInt(room.getPrice());
+        for (int offset : offsets) out.putInt(offset);
+        for (Room room : rooms) out.putShort((short) typeIds.idOf(room.getRoomType()));
+        for (Room room : rooms) out.putShort((short) imageIds.idOf(room.getImageName()));
+        out.put(data.toByteArray());
+        return out.array();
+    }
+
+    // a reader positioned at the start of the room's data (its amenities)
+    private ByteBuffer dataOf(int index) {
+        return buffer.duplicate().position(dataAt + buffer.getInt(offsetsAt + 4 * checkIndex(index)));
+    }
+
+    // a reader positioned at the room's booking count, just past its amenities
+    private ByteBuffer bookingsOf(int index) {
+        ByteBuffer in = dataOf(index);
+        int amenityCount = readVarint(in) - 1;
+        for (int i = 0; i < amenityCount; i++) readVarint(in);
+        return in;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index);
+        return index;
+    }
+
+    private static String[] readDictionary(ByteBuffer in) {
+        String[] values = new String[readVarint(in)];
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = new byte[readVarint(in)];
+            in.get(bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    // unsigned LEB128: 7 bits per byte, high bit set on all but the last byte
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        return (int) readVarLong(in);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+    }
+
+    // maps signed deltas to unsigned so small negative values stay short
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // assigns ids to strings in first-seen order
+    private static final class Dictionary {
+        private static final int MAX_ENTRIES = Short.MAX_VALUE; // ids are stored as shorts in the columns
+
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int idOf(String value) throws IOException {
+            if (value == null) return NONE;
+            Integer id = ids.get(value);
+            if (id == null) {
+                if (values.size() == MAX_ENTRIES) throw new IOException("Too many distinct values for a room snapshot");
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        void writeTo(ByteArrayOutputStream out) {
+            writeVarint(out, values.size());
+            for (String value : values) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarint(out, bytes.length);
+                out.write(bytes, 0, bytes.length);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.finalproject.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// command-line converter between rooms_1.json and the binary room snapshot:
+//     java -cp <classpath> com.example.finalproject.engine.RoomSnapshotConverter to-snapshot rooms_1.json rooms_1.snapshot
+//     java -cp <classpath> com.example.finalproject.engine.RoomSnapshotConverter to-json rooms_1.snapshot rooms_1.json
+// the app loads and saves rooms_1.snapshot instead of rooms_1.json whenever the snapshot exists.
+public final class RoomSnapshotConverter {
+    private RoomSnapshotConverter() {} // Prevent instantiation
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: RoomSnapshotConverter (to-snapshot | to-json) <input> <output>");
+            System.exit(2);
+        }
+        Path input = Path.of(args[1]);
+        Path output = Path.of(args[2]);
+        switch (args[0]) {
+            case "to-snapshot" -> jsonToSnapshot(input, output);
+            case "to-json" -> snapshotToJson(input, output);
+            default -> {
+                System.err.println("Unknown conversion: " + args[0]);
+                System.exit(2);
+            }
+        }
+    }
+
+    // converts a rooms JSON file into a binary snapshot
+    public static void jsonToSnapshot(Path json, Path snapshot) throws IOException {
+        RoomSnapshot.write(RoomInitializer.loadRooms(json).toList(), snapshot);
+    }
+
+    // converts a binary snapshot back into a pretty-printed rooms JSON file
+    public static void snapshotToJson(Path snapshot, Path json) throws IOException {
+        RoomInitializer.writeRooms(RoomSnapshot.open(snapshot).toRegistry().toList(), json);
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.finalproject.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// struct-of-arrays storage for a registry's rooms.
+// room number, price, type and image live in parallel primitive arrays indexed by room ordinal
+// (type and image names are dictionary-encoded to small ints), and the booking indexes are kept
+// in their own array. a registered Room is a facade that reads and writes its slot here, so
+// scans by price or type are plain sweeps over contiguous int[]s instead of a walk over Room objects.
+// the store is not thread-safe itself: every read and write goes through the owning registry's lock
+// (its change methods, RoomQuery, and the getters of its rooms all hold it).
+public class RoomStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NONE = -1; // id of a null type or image name
+
+    private int[] numbers = new int[INITIAL_CAPACITY];
+    private int[] prices = new int[INITIAL_CAPACITY];
+    private int[] typeIds = new int[INITIAL_CAPACITY];
+    private int[] imageIds = new int[INITIAL_CAPACITY];
+    private BookingIndex[] bookings = new BookingIndex[INITIAL_CAPACITY];
+    private int size; // one past the highest ordinal written
+
+    private final Dictionary types = new Dictionary();
+    private final Dictionary images = new Dictionary();
+
+    // writes a room's scalar fields into the given slot, growing the columns if needed
+    public void set(int ordinal, int roomNumber, int price, String roomType, String imageName) {
+        ensureCapacity(ordinal + 1);
+        numbers[ordinal] = roomNumber;
+        prices[ordinal] = price;
+        typeIds[ordinal] = types.idOf(roomType);
+        imageIds[ordinal] = images.idOf(imageName);
+        if (ordinal >= size) size = ordinal + 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int roomNumber(int ordinal) {
+        return numbers[checkOrdinal(ordinal)];
+    }
+
+    public void setRoomNumber(int ordinal, int roomNumber) {
+        numbers[checkOrdinal(ordinal)] = roomNumber;
+    }
+
+    public int price(int ordinal) {
+        return prices[checkOrdinal(ordinal)];
+    }
+
+    public void setPrice(int ordinal, int price) {
+        prices[checkOrdinal(ordinal)] = price;
+    }
+
+    // dictionary id of the room's type, or -1 if it has none
+    public int typeId(int ordinal) {
+        return typeIds[checkOrdinal(ordinal)];
+    }
+
+    public String roomType(int ordinal) {
+        return types.valueOf(typeId(ordinal));
+    }
+
+    public void setRoomType(int ordinal, String roomType) {
+        typeIds[checkOrdinal(ordinal)] = types.idOf(roomType);
+    }
+
+    public String imageName(int ordinal) {
+        return images.valueOf(imageIds[checkOrdinal(ordinal)]);
+    }
+
+    public void setImageName(int ordinal, String imageName) {
+        imageIds[checkOrdinal(ordinal)] = images.idOf(imageName);
+    }
+
+    public BookingIndex bookings(int ordinal) {
+        return bookings[checkOrdinal(ordinal)];
+    }
+
+    public void setBookings(int ordinal, BookingIndex bookedDates) {
+        bookings[checkOrdinal(ordinal)] = bookedDates;
+    }
+
+    // id of a room type (exact match), or -1 if no room in the store has ever had it
+    public int typeIdOf(String roomType) {
+        return roomType == null ? NONE : types.find(roomType);
+    }
+
+    // rooms whose price is within [min, max]
+    public BitSet roomsWithPriceBetween(int min, int max) {
+        long[] bits = new long[words()];
+        int[] column = prices;
+        for (int i = 0; i < size; i++) {
+            bits[i >>> 6] |= inRange(column[i], min, max) << i;
+        }
+        return BitSet.valueOf(bits);
+    }
+
+    // rooms whose type has the given id
+    public BitSet roomsOfType(int typeId) {
+        long[] bits = new long[words()];
+        int[] column = typeIds;
+        for (int i = 0; i < size; i++) {
+            bits[i >>> 6] |= (column[i] == typeId ? 1L : 0L) << i;
+        }
+        return BitSet.valueOf(bits);
+    }
+
+    // 1 if min <= value <= max, else 0, without a branch (the scans stay branch-free and
+    // don't mispredict on unsorted columns); computed in long so no bound can overflow
+    private static long inRange(long value, long min, long max) {
+        return (((value - min) | (max - value)) >>> 63) ^ 1;
+    }
+
+    private int words() {
+        return (size + 63) >>> 6;
+    }
+
+    private int checkOrdinal(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) throw new IndexOutOfBoundsException("Index: " + ordinal);
+        return ordinal;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= numbers.length) return;
+        int newCapacity = numbers.length;
+        while (newCapacity < capacity) newCapacity <<= 1;
+        numbers = Arrays.copyOf(numbers, newCapacity);
+        prices = Arrays.copyOf(prices, newCapacity);
+        typeIds = Arrays.copyOf(typeIds, newCapacity);
+        imageIds = Arrays.copyOf(imageIds, newCapacity);
+        bookings = Arrays.copyOf(bookings, newCapacity);
+    }
+
+    // assigns ids to strings in first-seen order (exact match, unlike RoomAttributeIndex)
+    private static final class Dictionary {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int idOf(String value) {
+            if (value == null) return NONE;
+            Integer id = ids.get(value);
+            if (id == null) {
+                id = values.size();
+                ids.put(value, id);
+                values.add(value);
+            }
+            return id;
+        }
+
+        int find(String value) {
+            Integer id = ids.get(value);
+            return id == null ? NONE : id;
+        }
+
+        String valueOf(int id) {
+            return id == NONE ? null : values.get(id);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.finalproject.engine;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// saves a registry to disk on a background thread, so callers never wait on file I/O.
+// saves are coalesced: at most one write runs and one more is queued, and every save requested
+// before the queued write starts shares it (and its future). a burst of saves costs two writes at most,
+// and each future completes only after a write that started after its request, so it covers its changes.
+// files are written to a temporary file and renamed over the old one (see RoomInitializer.writeRooms).
+public class RoomWriter implements AutoCloseable {
+    private final RoomRegistry rooms;
+    private final Path path; // null: the app's rooms file (see RoomInitializer.saveRooms)
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "room-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Consumer<Throwable>> failureListeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private CompletableFuture<Void> queued; // next write, not started yet; null if none is queued
+
+    public RoomWriter(RoomRegistry rooms) {
+        this(rooms, null);
+    }
+
+    // saves to the given JSON file instead of the app's rooms file
+    public RoomWriter(RoomRegistry rooms, Path path) {
+        this.rooms = rooms;
+        this.path = path;
+    }
+
+    // requests a save of every room. the future completes once the rooms are on disk,
+    // or completes exceptionally (after the failure listeners ran) if the write failed.
+    public synchronized CompletableFuture<Void> save() {
+        requests.incrementAndGet();
+        if (queued != null) return queued; // not started yet, so it will include this change
+        CompletableFuture<Void> write = new CompletableFuture<>();
+        queued = write;
+        try {
+            executor.execute(() -> write(write));
+        } catch (RuntimeException e) { // rejected: the writer was closed
+            queued = null;
+            write.completeExceptionally(new IOException("Room writer is closed", e));
+        }
+        return write;
+    }
+
+    // called with the error of every failed write, on the writer thread
+    public void addFailureListener(Consumer<Throwable> listener) {
+        failureListeners.add(listener);
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    // writes actually performed; requests minus writes were coalesced away
+    public long getWrites() {
+        return writes.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    // finishes the running and queued writes, then stops the writer thread
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(CompletableFuture<Void> done) {
+        synchronized (this) {
+            queued = null; // saves from now on may change rooms this write has already read
+        }
+        try {
+            if (path == null) {
+                RoomInitializer.saveRooms(rooms);
+            } else {
+                RoomInitializer.writeRooms(rooms.toList(), path);
+            }
+            writes.incrementAndGet();
+            done.complete(null);
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            for (Consumer<Throwable> listener : failureListeners) listener.accept(e);
+            done.completeExceptionally(e);
+        }
+    }
+}
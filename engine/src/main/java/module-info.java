@@ -0,0 +1,9 @@
+module com.example.finalproject.engine {
+    requires com.fasterxml.jackson.databind;
+    requires com.fasterxml.jackson.annotation;
+    requires java.management;
+
+    opens com.example.finalproject.engine to com.fasterxml.jackson.databind;
+
+    exports com.example.finalproject.engine;
+}
@@ -0,0 +1,95 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks the day bitsets against each room's own bookings as the ring buffer rolls forward
+class AvailabilityIndexTest {
+    private static final long FIRST_DAY = 20_000;
+    private static final int HORIZON = 30;
+
+    private final Random random = new Random(5);
+
+    // the days that fall off the front are reused for new days at the end: they must hold the
+    // bookings of their new day only, including days of stays that started before the horizon
+    @Test
+    void rollingForwardRefillsReusedDays() {
+        RoomRegistry rooms = inventory(150, FIRST_DAY - 10, FIRST_DAY + 200);
+        AvailabilityIndex index = new AvailabilityIndex(rooms, FIRST_DAY, HORIZON);
+        assertMatchesBookings(rooms, index);
+
+        for (int roll : new int[]{1, 7, HORIZON - 1, HORIZON, 45}) {
+            index.rollTo(index.getFirstDay() + roll);
+            assertEquals(index.getFirstDay() + HORIZON - 1, index.getLastDay());
+            assertMatchesBookings(rooms, index);
+        }
+    }
+
+    @Test
+    void rollingBackwardIsIgnored() {
+        RoomRegistry rooms = inventory(10, FIRST_DAY, FIRST_DAY + 60);
+        AvailabilityIndex index = new AvailabilityIndex(rooms, FIRST_DAY, HORIZON);
+        index.rollTo(FIRST_DAY - 5);
+
+        assertEquals(FIRST_DAY, index.getFirstDay());
+        assertMatchesBookings(rooms, index);
+    }
+
+    // a booking change after a roll only touches its own days, at their new slots
+    @Test
+    void updatesAfterARollUseTheNewSlots() {
+        RoomRegistry rooms = inventory(70, FIRST_DAY, FIRST_DAY + 100);
+        AvailabilityIndex index = new AvailabilityIndex(rooms, FIRST_DAY, HORIZON);
+        index.rollTo(FIRST_DAY + 17);
+
+        for (int change = 0; change < 200; change++) {
+            int ordinal = random.nextInt(rooms.size());
+            Room room = rooms.getAt(ordinal);
+            BookingIndex before = room.getBookedDates();
+            BookingIndex after = new BookingIndex(before);
+            if (!before.isEmpty() && random.nextBoolean()) {
+                after.remove(before.toList().get(random.nextInt(before.size())));
+            } else {
+                long start = index.getFirstDay() - 3 + random.nextInt(HORIZON + 6);
+                long end = start + random.nextInt(4);
+                if (!after.overlaps(start, end)) after.add(range(start, end));
+            }
+            room.setBookedDates(after);
+            index.updateRoom(ordinal, before, after);
+        }
+        assertMatchesBookings(rooms, index);
+    }
+
+    private void assertMatchesBookings(RoomRegistry rooms, AvailabilityIndex index) {
+        for (long day = index.getFirstDay() - 2; day <= index.getLastDay() + 2; day++) {
+            long[] booked = index.bookedRooms(day, day); // the days around the horizon come from the bookings
+            for (int ordinal = 0; ordinal < rooms.size(); ordinal++) {
+                boolean expected = rooms.getAt(ordinal).getBookedDates().overlaps(day, day);
+                assertEquals(expected, AvailabilityIndex.isSet(booked, ordinal), "room " + ordinal + " on day " + day);
+            }
+        }
+    }
+
+    // rooms with non-overlapping stays of 1-6 days between firstDay and lastDay
+    private RoomRegistry inventory(int count, long firstDay, long lastDay) {
+        RoomRegistry rooms = new RoomRegistry();
+        for (int number = 1; number <= count; number++) {
+            Room room = new Room("Standard Single", number, new String[0], 79, "standard_single.jpg");
+            for (long day = firstDay + random.nextInt(5); day <= lastDay; ) {
+                long end = day + random.nextInt(6);
+                room.addBookedDate(range(day, end));
+                day = end + 1 + random.nextInt(8);
+            }
+            rooms.add(room);
+        }
+        return rooms;
+    }
+
+    private static DateRange range(long startDay, long endDay) {
+        return new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)), DateUtils.toDate(LocalDate.ofEpochDay(endDay)));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks the binary-search overlap queries against a linear scan, including overlapping legacy data
+class BookingIndexTest {
+    private final Random random = new Random(3);
+
+    // a long stay followed by short ones inside it: only maxEnds sees that day 50 is still booked
+    @Test
+    void overlapsSeesLongBookingsBehindShorterOnes() {
+        BookingIndex index = new BookingIndex();
+        index.add(range(10, 100));
+        index.add(range(20, 22));
+        index.add(range(30, 31));
+
+        assertTrue(index.overlaps(50, 50));
+        assertTrue(index.overlaps(100, 120));
+        assertFalse(index.overlaps(101, 120));
+        assertFalse(index.overlaps(0, 9));
+        assertTrue(index.overlaps(0, 10));
+
+        assertTrue(index.remove(range(10, 100)));
+        assertFalse(index.overlaps(50, 50), "maxEnds not recomputed after removing the long stay");
+        assertTrue(index.overlaps(22, 25));
+    }
+
+    @Test
+    void overlapsMatchesALinearScan() {
+        for (int trial = 0; trial < 200; trial++) {
+            BookingIndex index = new BookingIndex();
+            List<long[]> bookings = new ArrayList<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                long start = random.nextInt(365);
+                long end = start + random.nextInt(40);
+                index.add(range(start, end));
+                bookings.add(new long[]{start, end});
+            }
+            if (!bookings.isEmpty() && random.nextBoolean()) {
+                long[] cancelled = bookings.remove(random.nextInt(bookings.size()));
+                assertTrue(index.remove(range(cancelled[0], cancelled[1])));
+            }
+
+            for (int query = 0; query < 50; query++) {
+                long from = random.nextInt(420) - 10;
+                long to = from + random.nextInt(10);
+                boolean expected = false;
+                for (long[] booking : bookings) {
+                    expected |= booking[0] <= to && booking[1] >= from;
+                }
+                assertEquals(expected, index.overlaps(from, to), "trial " + trial + ": " + from + " to " + to);
+            }
+        }
+    }
+
+    // ranges read back from JSON or copied by a dialog are other objects with the same days
+    @Test
+    void removeAndContainsMatchByStartAndEndDay() {
+        BookingIndex index = new BookingIndex();
+        index.add(range(5, 7));
+        index.add(range(5, 9));
+        index.add(range(12, 14));
+
+        assertTrue(index.contains(range(5, 9)));
+        assertFalse(index.contains(range(5, 8)));
+        assertFalse(index.remove(range(6, 9)));
+
+        assertTrue(index.remove(range(5, 9)));
+        assertEquals(2, index.size());
+        assertNotNull(index.find(5, 7));
+        assertNull(index.find(5, 9));
+        assertFalse(index.overlaps(8, 11));
+    }
+
+    @Test
+    void iteratesInStartOrder() {
+        BookingIndex index = new BookingIndex();
+        for (long start : new long[]{40, 3, 25, 3, 90, 11}) {
+            index.add(range(start, start + 1));
+        }
+        long previous = Long.MIN_VALUE;
+        for (DateRange range : index) {
+            assertTrue(range.getStartDay() >= previous);
+            previous = range.getStartDay();
+        }
+        assertEquals(6, index.size());
+    }
+
+    private static DateRange range(long startDay, long endDay) {
+        return new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)), DateUtils.toDate(LocalDate.ofEpochDay(endDay)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks replay after a crash mid-write, and that compaction only truncates a journal it has folded
+class BookingJournalTest {
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private RoomRegistry rooms;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("rooms.journal");
+        rooms = new RoomRegistry();
+        for (int number = 101; number <= 103; number++) {
+            rooms.add(new Room("Junior Suite", number, new String[0], 199, "junior_suite.jpg"));
+        }
+    }
+
+    // the torn last line is dropped from the file too, so the next append starts on a new line
+    @Test
+    void replaySkipsATornLastLine() throws Exception {
+        Files.writeString(file, "B 101 20000 20002\nB 102 20010 20011\nC 101 20000 20002\nB 103 20020 20021\nB 10",
+                StandardCharsets.UTF_8);
+
+        try (BookingJournal journal = new BookingJournal(file)) {
+            assertEquals(4, journal.replay(rooms));
+            assertTrue(rooms.get(101).getBookedDates().isEmpty());
+            assertNotNull(rooms.get(102).getBookedDates().find(20010, 20011));
+            assertNotNull(rooms.get(103).getBookedDates().find(20020, 20021));
+
+            BookingIndex before = rooms.get(101).getBookedDates();
+            BookingIndex after = new BookingIndex(before);
+            after.add(range(20030, 20031));
+            journal.recordChange(101, before, after).get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals("B 101 20000 20002\nB 102 20010 20011\nC 101 20000 20002\nB 103 20020 20021\nB 101 20030 20031\n",
+                Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    // replaying the same journal twice changes nothing the second time, and junk lines are skipped
+    @Test
+    void replayIsIdempotent() throws Exception {
+        Files.writeString(file, "B 101 20000 20002\nX 101 1 2\nB 999 20000 20001\nB 101 20000 20002\nnot a line\n",
+                StandardCharsets.UTF_8);
+
+        try (BookingJournal journal = new BookingJournal(file)) {
+            assertEquals(1, journal.replay(rooms));
+            assertEquals(0, journal.replay(rooms));
+        }
+        assertEquals(1, rooms.get(101).getBookedDates().size());
+    }
+
+    @Test
+    void compactionWritesTheSnapshotThenTruncates() throws Exception {
+        AtomicInteger snapshots = new AtomicInteger();
+        try (BookingJournal journal = new BookingJournal(file, 3)) {
+            for (int i = 0; i < 3; i++) book(journal, 101 + i, 20000 + 10 * i);
+            assertTrue(journal.needsCompaction());
+
+            journal.compactIfNeeded(() -> {
+                assertTrue(Files.size(file) > 0, "compaction ran before the events were written");
+                snapshots.incrementAndGet();
+            }).get(10, TimeUnit.SECONDS);
+
+            assertEquals(1, snapshots.get());
+            assertEquals(0, Files.size(file));
+            assertFalse(journal.needsCompaction());
+
+            book(journal, 101, 20100);
+            assertEquals("B 101 20100 20101\n", Files.readString(file, StandardCharsets.UTF_8));
+        }
+    }
+
+    // the journal is the only durable copy of its events until a snapshot has been written
+    @Test
+    void failedSnapshotKeepsTheJournal() throws Exception {
+        try (BookingJournal journal = new BookingJournal(file, 1)) {
+            book(journal, 102, 20000);
+            long size = Files.size(file);
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> journal.compact(() -> {
+                throw new IOException("disk full");
+            }).get(10, TimeUnit.SECONDS));
+
+            assertInstanceOf(IOException.class, error.getCause());
+            assertEquals(size, Files.size(file));
+            assertTrue(journal.needsCompaction());
+        }
+    }
+
+    // books [startDay, startDay + 1] in the registry and journals it, waiting until it is durable
+    private void book(BookingJournal journal, int roomNumber, long startDay) throws Exception {
+        Room room = rooms.get(roomNumber);
+        BookingIndex before = room.getBookedDates();
+        BookingIndex after = new BookingIndex(before);
+        after.add(range(startDay, startDay + 1));
+        room.setBookedDates(after);
+        journal.recordChange(roomNumber, before, after).get(10, TimeUnit.SECONDS);
+    }
+
+    private static DateRange range(long startDay, long endDay) {
+        return new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)), DateUtils.toDate(LocalDate.ofEpochDay(endDay)));
+    }
+}
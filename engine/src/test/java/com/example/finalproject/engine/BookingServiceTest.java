@@ -0,0 +1,163 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks that bookings stay consistent under concurrent callers, stale dialog edits and group batches
+class BookingServiceTest {
+    private static final int THREADS = 8;
+
+    private final LocalDate from = LocalDate.now().plusDays(10);
+    private RoomRegistry rooms;
+    private BookingService bookings;
+
+    @BeforeEach
+    void setUp() {
+        rooms = new RoomRegistry();
+        for (int number = 101; number <= 120; number++) {
+            rooms.add(new Room("Junior Suite", number, new String[0], 100, "junior.jpg"));
+        }
+        bookings = new BookingService(rooms);
+    }
+
+    // 8 threads book overlapping stays in the same room at once: exactly one of them gets it
+    @Test
+    void overlappingBookingsRaceLetsOneWin() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (Room room : rooms.toList()) {
+                int number = room.getRoomNumber();
+                CountDownLatch go = new CountDownLatch(1);
+                AtomicInteger booked = new AtomicInteger();
+                List<Future<?>> callers = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    LocalDate start = from.plusDays(t % 3); // every stay covers from + 2
+                    callers.add(pool.submit(() -> {
+                        go.await();
+                        if (bookings.book(number, start, from.plusDays(5)) != null) booked.incrementAndGet();
+                        return null;
+                    }));
+                }
+                go.countDown();
+                for (Future<?> caller : callers) caller.get(10, TimeUnit.SECONDS);
+
+                assertEquals(1, booked.get(), "room " + number);
+                assertEquals(1, rooms.get(number).getBookedDates().size(), "room " + number);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // a dialog's edits are rejected as a whole when another booking took the dates meanwhile
+    @Test
+    void applyRejectsEditsThatConflictWithNewerBookings() {
+        assertNotNull(bookings.book(101, from, from.plusDays(2)));
+        BookingIndex opened = rooms.get(101).getBookedDates();
+        BookingIndex edited = new BookingIndex(opened);
+        edited.remove(edited.find(from.toEpochDay(), from.plusDays(2).toEpochDay())); // cancels the first stay
+        edited.add(range(from.plusDays(20), from.plusDays(22)));
+
+        assertNotNull(bookings.book(101, from.plusDays(21), from.plusDays(21))); // booked in another window
+        long version = rooms.getVersion();
+
+        assertNull(bookings.apply(101, opened, edited));
+        BookingIndex now = rooms.get(101).getBookedDates();
+        assertEquals(2, now.size());
+        assertNotNull(now.find(from.toEpochDay(), from.plusDays(2).toEpochDay()), "cancellation was not applied");
+        assertEquals(version, rooms.getVersion());
+    }
+
+    // edits made on a stale copy still apply when they don't collide with what changed since
+    @Test
+    void applyMergesEditsOntoNewerBookings() {
+        BookingIndex opened = rooms.get(102).getBookedDates();
+        BookingIndex edited = new BookingIndex(opened);
+        edited.add(range(from, from.plusDays(1)));
+
+        assertNotNull(bookings.book(102, from.plusDays(5), from.plusDays(6)));
+
+        assertNotNull(bookings.apply(102, opened, edited));
+        assertEquals(2, rooms.get(102).getBookedDates().size());
+    }
+
+    // one conflicting request leaves every room of the batch as it was
+    @Test
+    void batchIsAllOrNothing() {
+        assertNotNull(bookings.book(105, from.plusDays(1), from.plusDays(1)));
+        long version = rooms.getVersion();
+        List<BookingService.Request> requests = new ArrayList<>();
+        for (int number = 101; number <= 110; number++) {
+            requests.add(BookingService.Request.book(number, from, from.plusDays(3)));
+        }
+
+        BookingService.BatchResult result = bookings.batch(requests);
+
+        assertFalse(result.isApplied());
+        assertEquals(1, result.conflicts().size());
+        assertEquals(105, result.conflicts().get(0).roomNumber());
+        assertTrue(result.changes().isEmpty());
+        for (int number = 101; number <= 110; number++) {
+            assertEquals(number == 105 ? 1 : 0, rooms.get(number).getBookedDates().size(), "room " + number);
+        }
+        assertEquals(version, rooms.getVersion());
+    }
+
+    // a batch can move a booking: the cancellations of a room are applied before its bookings
+    @Test
+    void batchAppliesEveryRequestWhenNoneConflict() {
+        assertNotNull(bookings.book(101, from, from.plusDays(3)));
+        List<BookingService.Request> requests = List.of(
+                BookingService.Request.cancel(101, from, from.plusDays(3)),
+                BookingService.Request.book(101, from.plusDays(1), from.plusDays(4)),
+                BookingService.Request.book(102, from, from.plusDays(3)));
+
+        BookingService.BatchResult result = bookings.batch(requests);
+
+        assertTrue(result.isApplied());
+        assertEquals(2, result.changes().size());
+        assertNotNull(rooms.get(101).getBookedDates().find(from.plusDays(1).toEpochDay(), from.plusDays(4).toEpochDay()));
+        assertEquals(1, rooms.get(101).getBookedDates().size());
+        assertEquals(1, rooms.get(102).getBookedDates().size());
+    }
+
+    // two requests of one batch that overlap each other conflict too
+    @Test
+    void batchRejectsRequestsOverlappingEachOther() {
+        BookingService.BatchResult result = bookings.batch(List.of(
+                BookingService.Request.book(103, from, from.plusDays(3)),
+                BookingService.Request.book(103, from.plusDays(2), from.plusDays(4))));
+
+        assertFalse(result.isApplied());
+        assertTrue(rooms.get(103).getBookedDates().isEmpty());
+    }
+
+    // a room that isn't registered is reported like any other conflict and nothing is applied
+    @Test
+    void batchReportsUnknownRoomsAsConflicts() {
+        BookingService.BatchResult result = bookings.batch(List.of(
+                BookingService.Request.book(104, from, from.plusDays(1)),
+                BookingService.Request.book(999, from, from.plusDays(1))));
+
+        assertFalse(result.isApplied());
+        assertEquals(1, result.conflicts().size());
+        assertEquals(999, result.conflicts().get(0).roomNumber());
+        assertTrue(rooms.get(104).getBookedDates().isEmpty());
+    }
+
+    private static DateRange range(LocalDate start, LocalDate end) {
+        return new DateRange(DateUtils.toDate(start), DateUtils.toDate(end));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks the bucket bounds: exact below 64, within 1/32 above, never below the recorded value
+class HistogramTest {
+    @Test
+    void smallValuesAreExact() {
+        for (long value = 0; value < 64; value++) {
+            assertEquals(value, bucketTop(value));
+        }
+    }
+
+    // a bucket's highest value is at least the value and less than 1/32 above it,
+    // and the buckets of each power of two start right on it
+    @Test
+    void bucketsAreWithinOneThirtySecond() {
+        for (int exponent = 6; exponent < 63; exponent++) {
+            long power = 1L << exponent;
+            long width = power >>> 5;
+            assertEquals(power + width - 1, bucketTop(power), "2^" + exponent);
+            assertEquals(power - 1, bucketTop(power - 1), "2^" + exponent + " - 1");
+            for (long value : new long[]{power + 1, power + width, power + power / 3, 2 * power - 1}) {
+                long top = bucketTop(value);
+                assertTrue(top >= value && top - value < width, value + " -> " + top);
+            }
+        }
+        assertEquals(Long.MAX_VALUE, bucketTop(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentilesNeverUndershoot() {
+        Histogram histogram = new Histogram();
+        for (long value = 1; value <= 1000; value++) histogram.record(value * 1000);
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        for (int percentile = 1; percentile <= 100; percentile++) {
+            long exact = percentile * 10L * 1000;
+            long reported = histogram.getPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact + exact / 32, percentile + "%: " + reported);
+        }
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    void negativeValuesCountAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getSum());
+    }
+
+    // the highest value of the bucket the value falls in: the 50th percentile of the value and a
+    // larger one in another bucket is the first bucket's top, as long as it is below the max
+    private static long bucketTop(long value) {
+        Histogram histogram = new Histogram();
+        histogram.record(value);
+        if (value == Long.MAX_VALUE) return histogram.getPercentile(50);
+        histogram.record(Long.MAX_VALUE);
+        return histogram.getPercentile(50);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks the best-fit picks against a brute-force ranking of every free room
+class RoomAllocatorTest {
+    private static final String[] TYPES = {"Standard Single", "Junior Suite", "Penthouse Suite"};
+    private static final int ROOMS = 2000;
+    private static final int MAX_LEFTOVER = 2 * AvailabilityIndex.DEFAULT_HORIZON_DAYS;
+
+    private final Random random = new Random(7);
+    private final long today = LocalDate.now().toEpochDay();
+    private RoomRegistry rooms;
+
+    @BeforeEach
+    void setUp() {
+        rooms = new RoomRegistry();
+        for (int number = 1; number <= ROOMS; number++) {
+            Room room = new Room(TYPES[number % TYPES.length], number, new String[0], 100, "room.jpg");
+            long day = today + random.nextInt(10);
+            int stays = random.nextInt(25);
+            for (int i = 0; i < stays; i++) {
+                long end = day + random.nextInt(7);
+                room.addBookedDate(range(day, end));
+                day = end + 1 + random.nextInt(12);
+            }
+            rooms.add(room);
+        }
+    }
+
+    @Test
+    void picksTheTightestFitsInInventoryOrder() {
+        long lastDay = rooms.getAvailability().getLastDay();
+        for (int trial = 0; trial < 200; trial++) {
+            LocalDate from = LocalDate.now().plusDays(random.nextInt(120));
+            LocalDate to = from.plusDays(random.nextInt(5));
+            String type = trial % 2 == 0 ? Constants.ACTION_ANY : TYPES[trial % TYPES.length];
+            int count = 1 + random.nextInt(50);
+
+            List<Integer> expected = bruteForce(type, count, from.toEpochDay(), to.toEpochDay(), lastDay);
+            List<Integer> actual = new ArrayList<>();
+            for (Room room : RoomAllocator.allocate(rooms, type, count, from, to)) {
+                actual.add(rooms.ordinalOf(room.getRoomNumber()));
+            }
+            assertEquals(expected, actual, type + " x" + count + " for " + from + " to " + to);
+        }
+    }
+
+    // stays past the availability horizon are measured from the booking indexes instead,
+    // cut at the same edges, so they are ranked the same way
+    @Test
+    void picksFreeRoomsPastTheHorizon() {
+        long lastDay = rooms.getAvailability().getLastDay();
+        for (int trial = 0; trial < 50; trial++) {
+            LocalDate from = LocalDate.now().plusDays(300 + random.nextInt(1200));
+            LocalDate to = from.plusDays(random.nextInt(5));
+            if (!to.isAfter(LocalDate.ofEpochDay(lastDay))) to = LocalDate.ofEpochDay(lastDay + 1);
+            String type = trial % 2 == 0 ? Constants.ACTION_ANY : TYPES[trial % TYPES.length];
+            int count = 1 + random.nextInt(50);
+
+            List<Integer> expected = bruteForce(type, count, from.toEpochDay(), to.toEpochDay(), lastDay);
+            List<Integer> actual = new ArrayList<>();
+            for (Room room : RoomAllocator.allocate(rooms, type, count, from, to)) {
+                assertFalse(room.getBookedDates().overlaps(from, to));
+                actual.add(rooms.ordinalOf(room.getRoomNumber()));
+            }
+            assertEquals(expected, actual, type + " x" + count + " for " + from + " to " + to);
+        }
+    }
+
+    @Test
+    void rejectsInvalidRequests() {
+        LocalDate from = LocalDate.now();
+        assertThrows(IllegalArgumentException.class, () -> RoomAllocator.allocate(rooms, null, 0, from, from));
+        assertThrows(IllegalArgumentException.class, () -> RoomAllocator.allocate(rooms, null, 1, from, from.minusDays(1)));
+    }
+
+    // every free room of the type, ranked by the free days left before and after the stay (counted
+    // from today up to the horizon, at most twice the horizon), ties in inventory order;
+    // returns the ordinals of the first count
+    private List<Integer> bruteForce(String type, int count, long fromDay, long toDay, long lastDay) {
+        List<long[]> free = new ArrayList<>();
+        for (int ordinal = 0; ordinal < rooms.size(); ordinal++) {
+            Room room = rooms.getAt(ordinal);
+            if (!type.equals(Constants.ACTION_ANY) && !room.getRoomType().equalsIgnoreCase(type)) continue;
+            BookingIndex bookings = room.getBookedDates();
+            if (bookings.overlaps(fromDay, toDay)) continue;
+            long before = Math.max(0, fromDay - Math.max(bookings.lastEndBefore(fromDay) + 1, today));
+            long after = Math.max(0, Math.min(bookings.firstStartAfter(toDay) - 1, lastDay) - toDay);
+            free.add(new long[]{Math.min(before + after, MAX_LEFTOVER), ordinal});
+        }
+        free.sort(Comparator.<long[]>comparingLong(room -> room[0]).thenComparingLong(room -> room[1]));
+
+        List<Integer> ordinals = new ArrayList<>();
+        for (int i = 0; i < Math.min(count, free.size()); i++) {
+            ordinals.add((int) free.get(i)[1]);
+        }
+        return ordinals;
+    }
+
+    private static DateRange range(long startDay, long endDay) {
+        return new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)), DateUtils.toDate(LocalDate.ofEpochDay(endDay)));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.finalproject.engine;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks that rooms_1.json round-trips through the streaming loader and that bad files are reported
+class RoomInitializerTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void loadsWhatWasWritten() throws Exception {
+        Room room = new Room("Junior Suite", 51, new String[]{"Kitchen"}, 189, "junior_suite.jpg");
+        Path file = dir.resolve("rooms.json");
+        RoomInitializer.writeRooms(List.of(room, new Room("Penthouse Suite", 66, new String[0], 499, "penthouse.jpg")), file);
+
+        RoomRegistry rooms = RoomInitializer.loadRooms(file);
+
+        assertEquals(2, rooms.size());
+        assertEquals("Junior Suite", rooms.get(51).getRoomType());
+        assertEquals(499, rooms.get(66).getPrice());
+    }
+
+    @Test
+    void rejectsDuplicateRoomNumbers() throws Exception {
+        Path file = dir.resolve("rooms.json");
+        Files.writeString(file, "[{\"roomType\":\"Standard Single\",\"roomNumber\":7,\"price\":79},"
+                + "{\"roomType\":\"Junior Suite\",\"roomNumber\":7,\"price\":189}]");
+
+        JsonParseException error = assertThrows(JsonParseException.class, () -> RoomInitializer.loadRooms(file));
+        assertTrue(error.getMessage().contains("Duplicate room number 7"), error.getMessage());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks that cached searches are reused until the registry changes, and never served stale
+class RoomQueryCacheTest {
+    private final LocalDate from = LocalDate.now().plusDays(3);
+    private RoomRegistry rooms;
+    private RoomQueryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        rooms = new RoomRegistry();
+        for (int number = 1; number <= 20; number++) {
+            rooms.add(new Room(number <= 10 ? "Standard Single" : "Junior Suite", number, new String[0], 80 + number, "room.jpg"));
+        }
+        cache = new RoomQueryCache(rooms, 4);
+    }
+
+    // criteria that differ only in case or in dates no action uses are the same search
+    @Test
+    void equalSearchesHitTheCache() {
+        RoomQueryResult first = cache.search(criteria("junior suite", Constants.ACTION_ANY, from));
+        RoomQueryResult second = cache.search(criteria("Junior Suite", Constants.ACTION_ANY, from.plusDays(9)));
+
+        assertSame(first, second);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void bookingsInvalidateCachedResults() {
+        RoomFilterCriteria free = criteria("Junior Suite", Constants.ACTION_BOOK, from);
+        assertEquals(10, cache.search(free).size());
+
+        rooms.get(12).addBookedDate(new DateRange(DateUtils.toDate(from), DateUtils.toDate(from.plusDays(1))));
+
+        assertEquals(numbers(11, 13, 14, 15, 16, 17, 18, 19, 20), numbers(cache.search(free)));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getInvalidations());
+    }
+
+    // a field edit moves the version too, even though no booking changed
+    @Test
+    void roomEditsInvalidateCachedResults() {
+        RoomFilterCriteria cheap = criteria(Constants.ACTION_ANY, Constants.ACTION_ANY, from);
+        cheap.maxPrice = 85;
+        assertEquals(numbers(1, 2, 3, 4, 5), numbers(cache.search(cheap)));
+
+        rooms.get(20).setPrice(50);
+        rooms.get(1).setRoomType("Junior Suite");
+
+        assertEquals(numbers(1, 2, 3, 4, 5, 20), numbers(cache.search(cheap)));
+        assertEquals(numbers(1, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20),
+                numbers(cache.search(criteria("Junior Suite", Constants.ACTION_ANY, from))));
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    void keepsTheMostRecentlyUsedSearches() {
+        for (int price = 81; price <= 85; price++) {
+            RoomFilterCriteria criteria = criteria(Constants.ACTION_ANY, Constants.ACTION_ANY, from);
+            criteria.minPrice = price;
+            cache.search(criteria);
+        }
+
+        assertEquals(4, cache.size());
+        assertEquals(1, cache.getEvictions());
+    }
+
+    private static RoomFilterCriteria criteria(String roomType, String action, LocalDate from) {
+        RoomFilterCriteria criteria = new RoomFilterCriteria();
+        criteria.roomType = roomType;
+        criteria.action = action;
+        criteria.from = from;
+        criteria.to = from.plusDays(1);
+        return criteria;
+    }
+
+    private static List<Integer> numbers(int... numbers) {
+        List<Integer> list = new ArrayList<>();
+        for (int number : numbers) list.add(number);
+        return list;
+    }
+
+    private static List<Integer> numbers(RoomQueryResult result) {
+        List<Integer> numbers = new ArrayList<>();
+        for (Room room : result) numbers.add(room.getRoomNumber());
+        return numbers;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks that the parallel sweep returns what the sequential one does, in the same order
+class RoomQueryTest {
+    private static final String[] TYPES = {"Standard Single", "Junior Suite", "Penthouse Suite"};
+
+    private final Random random = new Random(11);
+    private RoomRegistry rooms;
+
+    @BeforeEach
+    void setUp() {
+        rooms = new RoomRegistry();
+        long today = LocalDate.now().toEpochDay();
+        for (int number = 1; number <= 3000; number++) {
+            Room room = new Room(TYPES[number % TYPES.length], number, new String[0], 50 + number % 200, "room.jpg");
+            long day = today + random.nextInt(20);
+            for (int i = random.nextInt(80); i > 0; i--) {
+                long end = day + random.nextInt(7);
+                room.addBookedDate(new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(day)), DateUtils.toDate(LocalDate.ofEpochDay(end))));
+                day = end + 1 + random.nextInt(15);
+            }
+            rooms.add(room);
+        }
+    }
+
+    // inside the availability horizon and past it, where each room's own bookings are checked
+    @Test
+    void parallelSweepMatchesTheSequentialOne() {
+        for (int offset : new int[]{3, 200, 900}) {
+            for (String action : new String[]{Constants.ACTION_BOOK, Constants.ACTION_CANCEL}) {
+                RoomFilterCriteria criteria = new RoomFilterCriteria();
+                criteria.action = action;
+                criteria.roomTypes = Set.of(TYPES[0], TYPES[2]);
+                criteria.maxPrice = 180;
+                criteria.from = LocalDate.now().plusDays(offset);
+                criteria.to = criteria.from.plusDays(4);
+                RoomQuery query = RoomQuery.compile(criteria);
+
+                List<Integer> sequential = numbers(query.execute(rooms, Integer.MAX_VALUE));
+                assertFalse(sequential.isEmpty(), action + " at +" + offset);
+                assertEquals(sequential, numbers(query.execute(rooms, 1)), action + " at +" + offset);
+                // RoomFilter runs it with the registry lock already held
+                synchronized (rooms) {
+                    assertEquals(sequential, numbers(query.execute(rooms, 1)), action + " at +" + offset);
+                }
+            }
+        }
+    }
+
+    private static List<Integer> numbers(RoomQueryResult result) {
+        List<Integer> numbers = new ArrayList<>();
+        for (Room room : result) numbers.add(room.getRoomNumber());
+        return numbers;
+    }
+}
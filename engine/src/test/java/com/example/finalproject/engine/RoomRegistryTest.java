@@ -0,0 +1,199 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks the number table (lookups, duplicate numbers, lookups while the table grows, changed numbers)
+// and that a registered room's setters keep the registry's indexes in step, on the heap and over a snapshot
+class RoomRegistryTest {
+    @TempDir
+    Path dir;
+
+    private RoomRegistry rooms;
+
+    @BeforeEach
+    void setUp() {
+        rooms = new RoomRegistry();
+    }
+
+    @Test
+    void findsRoomsByNumberAndOrdinal() {
+        for (int number = 1; number <= 100; number++) {
+            rooms.add(room(number * 7));
+        }
+
+        assertEquals(100, rooms.size());
+        for (int ordinal = 0; ordinal < 100; ordinal++) {
+            int number = (ordinal + 1) * 7;
+            assertEquals(ordinal, rooms.ordinalOf(number));
+            assertEquals(number, rooms.get(number).getRoomNumber());
+            assertSame(rooms.get(number), rooms.getAt(ordinal));
+        }
+        assertNull(rooms.get(8));
+        assertFalse(rooms.contains(0));
+        assertEquals(-1, rooms.ordinalOf(-7));
+    }
+
+    // a second room with a taken number is an error; replacing it has to be asked for
+    @Test
+    void addRejectsDuplicateNumbers() {
+        Room first = room(12);
+        rooms.add(first);
+
+        assertThrows(IllegalArgumentException.class, () -> rooms.add(room(12)));
+        assertSame(first, rooms.get(12));
+        assertEquals(1, rooms.size());
+
+        Room second = room(12);
+        assertTrue(rooms.replace(second));
+        assertSame(second, rooms.get(12));
+        assertFalse(first.isRegistered());
+        assertFalse(rooms.replace(room(13)));
+    }
+
+    // readers look up rooms that are already in while a writer keeps growing the table
+    @Test
+    void lookupsSeeEveryAddedRoomWhileTheTableGrows() throws Exception {
+        int count = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> writer = pool.submit(() -> {
+                for (int number = 1; number <= count; number++) rooms.add(room(number));
+            });
+            Future<?> reader = pool.submit(() -> {
+                while (!writer.isDone()) {
+                    int size = rooms.size();
+                    for (int number = Math.max(1, size - 64); number <= size; number++) {
+                        assertNotNull(rooms.get(number), "room " + number);
+                        assertEquals(number - 1, rooms.ordinalOf(number));
+                    }
+                }
+            });
+            writer.get(30, TimeUnit.SECONDS);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(count, rooms.size());
+    }
+
+    // a registered room's setters go through the registry, so the number table follows a new number
+    @Test
+    void numberTableFollowsChangedNumbers() {
+        for (int number = 1; number <= 40; number++) {
+            rooms.add(room(number));
+        }
+        Room room = rooms.get(17);
+        long version = rooms.getVersion();
+
+        room.setRoomNumber(170);
+
+        assertNull(rooms.get(17));
+        assertSame(room, rooms.get(170));
+        assertEquals(16, rooms.ordinalOf(170));
+        assertEquals(170, rooms.getStore().roomNumber(16));
+        assertTrue(rooms.getVersion() > version);
+        assertThrows(IllegalArgumentException.class, () -> room.setRoomNumber(18));
+        assertSame(room, rooms.get(170));
+        for (int number = 1; number <= 40; number++) {
+            if (number != 17) assertEquals(number - 1, rooms.ordinalOf(number), "room " + number);
+        }
+
+        rooms.add(room(17)); // the old number is free again
+        assertEquals(40, rooms.ordinalOf(17));
+    }
+
+    @Test
+    void settersKeepTheAttributeIndexAndColumnsInStep() {
+        rooms.add(room(1));
+        rooms.add(room(2));
+        Room room = rooms.get(2);
+
+        room.setRoomType("Junior Suite");
+        room.setIncludes(new String[]{"Kitchen"});
+        room.setPrice(189);
+
+        assertEquals(BitSet.valueOf(new long[]{0b10}), rooms.getAttributes().roomsOfAnyType(List.of("junior suite")));
+        assertTrue(rooms.getAttributes().hasAmenity(1, "Kitchen"));
+        assertFalse(rooms.getAttributes().hasType(1, "Standard Single"));
+        assertEquals(189, rooms.getStore().price(1));
+        assertEquals(189, room.getPrice());
+    }
+
+    // a registry over a snapshot builds its number table from the mapped columns on first lookup
+    // and answers booking checks from the file, so rooms are only materialized when asked for
+    @Test
+    void numberTableOverASnapshot() throws Exception {
+        List<Room> written = new ArrayList<>();
+        for (int number = 1; number <= 300; number++) {
+            Room room = room(number * 3);
+            room.addBookedDate(range(20000 + number, 20000 + number + 2));
+            written.add(room);
+        }
+        Path file = dir.resolve("rooms.snapshot");
+        RoomSnapshot.write(written, file);
+        RoomRegistry mapped = new RoomRegistry(RoomSnapshot.open(file));
+
+        assertEquals(300, mapped.size());
+        for (int ordinal = 0; ordinal < 300; ordinal++) {
+            int number = (ordinal + 1) * 3;
+            assertEquals(ordinal, mapped.ordinalOf(number));
+            assertEquals(number, mapped.getStore().roomNumber(ordinal));
+            assertTrue(mapped.overlapsBooking(ordinal, 20001 + ordinal, 20001 + ordinal));
+            assertFalse(mapped.overlapsBooking(ordinal, 20004 + ordinal, 20010 + ordinal));
+        }
+        assertEquals(-1, mapped.ordinalOf(4));
+
+        Room room = mapped.get(30); // materialized from the file
+        assertEquals(9, mapped.ordinalOf(room.getRoomNumber()));
+        assertEquals(1, room.getBookedDates().size());
+        assertSame(room, mapped.getAt(9));
+
+        for (int number = 1000; number < 1400; number++) mapped.add(room(number)); // the table grows
+        assertEquals(700, mapped.size());
+        assertEquals(299, mapped.ordinalOf(900));
+        assertEquals(699, mapped.ordinalOf(1399));
+        assertThrows(IllegalArgumentException.class, () -> mapped.add(room(600)));
+    }
+
+    // the table is rebuilt from the store for materialized rooms and from the file for the rest
+    @Test
+    void changedNumbersOverASnapshot() throws Exception {
+        List<Room> written = new ArrayList<>();
+        for (int number = 1; number <= 100; number++) written.add(room(number));
+        Path file = dir.resolve("rooms.snapshot");
+        RoomSnapshot.write(written, file);
+        RoomRegistry mapped = new RoomRegistry(RoomSnapshot.open(file));
+
+        mapped.get(50).setRoomNumber(5000);
+
+        assertNull(mapped.get(50));
+        assertEquals(49, mapped.ordinalOf(5000));
+        for (int number = 1; number <= 100; number++) {
+            if (number != 50) assertEquals(number - 1, mapped.ordinalOf(number), "room " + number);
+        }
+        assertThrows(IllegalArgumentException.class, () -> mapped.get(5000).setRoomNumber(99));
+    }
+
+    private static DateRange range(long startDay, long endDay) {
+        return new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)), DateUtils.toDate(LocalDate.ofEpochDay(endDay)));
+    }
+
+    private static Room room(int number) {
+        return new Room("Standard Single", number, new String[]{"Single Double Bed"}, 79, "standard_single.jpg");
+    }
+}
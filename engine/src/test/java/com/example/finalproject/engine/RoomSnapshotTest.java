@@ -0,0 +1,105 @@
+package com.example.finalproject.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// checks that rooms survive a write and a mapped read unchanged, including the values the
+// varint and zigzag encodings have to get right: negative epoch days, multi-byte deltas, zero deltas
+class RoomSnapshotTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsEveryField() throws IOException {
+        List<Room> rooms = new ArrayList<>();
+        Room edgeCases = new Room("Standard Single", 1, new String[]{"Single Double Bed", null}, 79, "standard_single.jpg");
+        edgeCases.addBookedDate(range(-4000, -3990)); // before 1970: the first delta is negative
+        edgeCases.addBookedDate(range(-3000, -3000));
+        edgeCases.addBookedDate(range(-3000, -2995)); // same start as the one before: a zero delta
+        edgeCases.addBookedDate(range(20000, 20000 + 200)); // deltas of two and three bytes
+        edgeCases.addBookedDate(range(2_900_000, 2_932_000)); // around the year 9900
+        rooms.add(edgeCases);
+        rooms.add(new Room(null, Integer.MAX_VALUE, null, -5, null)); // nothing but a number
+        rooms.add(new Room("Junior Suite", 3, new String[0], 0, "junior_suite.jpg"));
+
+        Random random = new Random(9);
+        for (int number = 4; number <= 300; number++) {
+            Room room = new Room(random.nextBoolean() ? "Junior Suite" : "Penthouse Suite", number,
+                    new String[]{"Kitchen", "Jacuzzi"}, random.nextInt(1000), "room" + number % 7 + ".jpg");
+            long day = 19000 + random.nextInt(100);
+            for (int i = random.nextInt(30); i > 0; i--) {
+                long end = day + random.nextInt(300);
+                room.addBookedDate(range(day, end));
+                day += random.nextInt(20_000);
+            }
+            rooms.add(room);
+        }
+
+        Path file = dir.resolve("rooms.snapshot");
+        RoomSnapshot.write(rooms, file);
+        RoomSnapshot snapshot = RoomSnapshot.open(file);
+
+        assertEquals(rooms.size(), snapshot.size());
+        for (int i = 0; i < rooms.size(); i++) {
+            Room expected = rooms.get(i);
+            Room actual = snapshot.room(i);
+            assertEquals(expected.getRoomNumber(), actual.getRoomNumber());
+            assertEquals(expected.getRoomType(), actual.getRoomType());
+            assertEquals(expected.getPrice(), actual.getPrice());
+            assertEquals(expected.getImageName(), actual.getImageName());
+            assertArrayEquals(expected.getIncludes(), actual.getIncludes());
+            assertEquals(days(expected.getBookedDates()), days(actual.getBookedDates()), "room " + expected.getRoomNumber());
+
+            List<long[]> visited = new ArrayList<>();
+            snapshot.forEachBooking(i, (start, end) -> visited.add(new long[]{start, end}));
+            assertEquals(days(expected.getBookedDates()), visited.stream().map(d -> d[0] + ".." + d[1]).toList());
+        }
+    }
+
+    // the overlap check decodes the bookings in place: it must agree with the booking index
+    @Test
+    void overlapsMatchesTheBookingIndex() throws IOException {
+        Room room = new Room("Junior Suite", 7, new String[0], 199, "junior_suite.jpg");
+        room.addBookedDate(range(-20, -10));
+        room.addBookedDate(range(100, 400));
+        room.addBookedDate(range(150, 160)); // inside the long stay
+        room.addBookedDate(range(1000, 1000));
+        Path file = dir.resolve("rooms.snapshot");
+        RoomSnapshot.write(List.of(room), file);
+        RoomSnapshot snapshot = RoomSnapshot.open(file);
+
+        for (long from = -30; from <= 1010; from += 3) {
+            for (long length = 0; length <= 12; length += 4) {
+                assertEquals(room.getBookedDates().overlaps(from, from + length), snapshot.overlaps(0, from, from + length),
+                        from + " to " + (from + length));
+            }
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotSnapshots() throws IOException {
+        Path file = dir.resolve("rooms.json");
+        Files.writeString(file, "[{\"roomNumber\": 1}]");
+        assertThrows(IOException.class, () -> RoomSnapshot.open(file));
+    }
+
+    private static List<String> days(BookingIndex bookings) {
+        List<String> days = new ArrayList<>();
+        for (DateRange range : bookings) days.add(range.getStartDay() + ".." + range.getEndDay());
+        return days;
+    }
+
+    private static DateRange range(long startDay, long endDay) {
+        return new DateRange(DateUtils.toDate(LocalDate.ofEpochDay(startDay)), DateUtils.toDate(LocalDate.ofEpochDay(endDay)));
+    }
+}